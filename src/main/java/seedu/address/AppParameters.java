@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path migrationTargetPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the data file to migrate the address book to before it is loaded, or null if it is not to be migrated.
+     */
+    public Path getMigrationTargetPath() {
+        return migrationTargetPath;
+    }
+
+    public void setMigrationTargetPath(Path migrationTargetPath) {
+        this.migrationTargetPath = migrationTargetPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +53,15 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String migrationTargetPathParameter = namedParameters.get("migrate");
+        if (migrationTargetPathParameter != null && !FileUtil.isValidPath(migrationTargetPathParameter)) {
+            logger.warning("Invalid migration target path " + migrationTargetPathParameter
+                    + ". The data file will not be migrated.");
+            migrationTargetPathParameter = null;
+        }
+        appParameters.setMigrationTargetPath(
+                migrationTargetPathParameter != null ? Paths.get(migrationTargetPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +77,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(migrationTargetPath, otherAppParameters.migrationTargetPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, migrationTargetPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("migrationTargetPath", migrationTargetPath)
                 .toString();
     }
 }
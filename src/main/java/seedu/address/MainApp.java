@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,7 +13,10 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileDeletionQueue;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ThumbnailUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -21,9 +25,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Applicant;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileFormat;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,10 +62,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (appParameters.getMigrationTargetPath() != null) {
+            migrateAddressBook(userPrefs, userPrefsStorage, appParameters.getMigrationTargetPath());
+        }
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = AddressBookFileFormat.of(addressBookFilePath).createStorage(
+                addressBookFilePath, config.isAddressBookPrettyPrinted(), config.getAddressBookDurability());
+        // save the address book on a background writer thread, so that the UI does not wait for disk I/O
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
+        initProfilePictureThumbnails(model);
 
         logic = new LogicManager(model, storage);
 
@@ -70,7 +82,7 @@ public class MainApp extends Application {
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or its backup will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -85,14 +97,47 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = initBackupAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the address book in the backup of {@code storage}'s data file, which holds the data as it was before
+     * the last save. An empty address book will be used instead if the backup is not found or cannot be read.
+     */
+    private ReadOnlyAddressBook initBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupFilePath(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backupOptional = storage.readAddressBook(backupFilePath);
+            if (backupOptional.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with the backup at " + backupFilePath + ".");
+                return backupOptional.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+        }
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
+    /**
+     * Queues the creation of the thumbnails of the profile pictures in {@code model} that have none yet, such as
+     * the pictures added before thumbnails were created on upload. The thumbnails are created in the background,
+     * and pictures whose thumbnails are up to date are skipped, so this only does work once per picture.
+     */
+    private void initProfilePictureThumbnails(Model model) {
+        for (Applicant applicant : model.getAddressBook().getPersonList()) {
+            String profilePicturePath = applicant.getProfilePicturePath();
+            if (!profilePicturePath.equals(UiManager.DEFAULT_PROFILE_PIC) && FileUtil.isValidPath(profilePicturePath)) {
+                ThumbnailUtil.enqueue(Paths.get(profilePicturePath), UiManager.PROFILE_PIC_THUMBNAIL_SIZE);
+            }
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -168,6 +213,32 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Converts the data file at {@code userPrefs}' address book file path into {@code targetPath}, in the format given
+     * by its extension, and switches {@code userPrefs} to {@code targetPath}.
+     * The data file in use is left unchanged if the conversion fails.
+     * Runs at launch, before the storage of the data file is created, as some storages keep their data file open
+     * for as long as the app runs.
+     */
+    private void migrateAddressBook(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage, Path targetPath) {
+        Path sourcePath = userPrefs.getAddressBookFilePath();
+        logger.info("Migrating data file " + sourcePath + " to " + targetPath);
+        try {
+            AddressBookFileFormat.convert(sourcePath, targetPath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file " + sourcePath + " could not be migrated to " + targetPath + ". Will be using "
+                    + sourcePath + ": " + StringUtil.getDetails(e));
+            return;
+        }
+
+        userPrefs.setAddressBookFilePath(targetPath);
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -182,5 +253,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // changes recorded without a save, e.g. profile pictures reset while displaying applicants
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            // finish writing saves of the address book before the writer thread is killed
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        // finish deleting profile pictures of removed applicants before the deletion thread is killed
+        FileDeletionQueue.flush();
     }
 }
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookPrettyPrinted = true;
+    private SaveDurability addressBookDurability = SaveDurability.FSYNC_FILE;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book data file is written with line breaks and indentation.
+     * Writing it on a single line makes the file smaller and faster to save.
+     */
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    /**
+     * Returns how far each save of the address book data file is pushed to the storage device.
+     */
+    public SaveDurability getAddressBookDurability() {
+        return addressBookDurability;
+    }
+
+    public void setAddressBookDurability(SaveDurability addressBookDurability) {
+        this.addressBookDurability = addressBookDurability;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +72,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && addressBookDurability == otherConfig.addressBookDurability;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookPrettyPrinted, addressBookDurability);
     }
 
     @Override
@@ -60,6 +87,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("addressBookDurability", addressBookDurability)
                 .toString();
     }
 
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * How far a saved file is pushed to the storage device before the save is considered done.
+ * Each level is safer against power loss or an operating system crash than the one before it, and slower.
+ * All levels replace the file atomically, so a crash of the app itself never leaves a half-written file.
+ */
+public enum SaveDurability {
+    /** The file is left in the operating system's cache, to be written to the device later. */
+    NONE,
+    /** The content of the file is synced to the device before it replaces the old file. */
+    FSYNC_FILE,
+    /** As {@link #FSYNC_FILE}, and the directory is synced after the old file is replaced. */
+    FSYNC_DIR
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Deletes files on a background thread, so that callers on the UI thread do not wait for disk I/O.
+ * Files are deleted one at a time, in the order they were queued.
+ */
+public class FileDeletionQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(FileDeletionQueue.class);
+
+    private static final ExecutorService deleter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-deletion-queue");
+        // Pending deletions must not keep the application alive; call flush() before exiting to finish them
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Queues {@code file} for deletion and returns immediately.
+     * A file that cannot be deleted is logged and skipped.
+     */
+    public static void enqueue(Path file) {
+        requireNonNull(file);
+        deleter.execute(() -> delete(file));
+    }
+
+    /**
+     * Blocks until every file queued before this call has been processed.
+     */
+    public static void flush() {
+        try {
+            deleter.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the no-op task cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            logger.warning("Error deleting file " + file + ": " + e);
+        }
+    }
+}
@@ -1,18 +1,42 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the whole content to {@code file}, replacing any content it has.
+         */
+        void writeTo(Path file) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -73,11 +97,96 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it atomically after syncing the new content to the storage device.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, tempFile -> Files.write(tempFile, content.getBytes(CHARSET)),
+                SaveDurability.FSYNC_FILE, false);
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} kept by {@link #writeAtomically}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes a file with {@code writer}, so that the file has either its old or its new content at any time,
+     * even if the app crashes halfway through.
+     * The new content is written to a temporary file next to {@code file}, synced as far as {@code durability}
+     * requires, and then renamed to {@code file}. Will create the file and its parent directories if they do not
+     * exist yet.
+     *
+     * @param isBackedUp whether the old content of {@code file}, if any, is kept in its backup file, replacing the
+     *     previous backup.
+     * @throws IOException if the file could not be written. The file is then left unchanged.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, SaveDurability durability,
+                                       boolean isBackedUp) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writer.writeTo(tempFile);
+            if (durability != SaveDurability.NONE) {
+                try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            if (isBackedUp && isFileExists(file)) {
+                backUp(file);
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            // the cause of the failed write is reported, rather than a failure to clean up after it
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException cleanupFailure) {
+                e.addSuppressed(cleanupFailure);
+            }
+            throw e;
+        }
+
+        if (durability == SaveDurability.FSYNC_DIR) {
+            syncParentDir(file);
+        }
+    }
+
+    /**
+     * Replaces the backup of {@code file} with its current content.
+     * The backup is a hard link to {@code file} where the file system supports it, so that no content is copied.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic rename is not supported, replacing " + target + " non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the directory containing {@code file}, so that the last rename in it, or the creation of {@code file},
+     * is on the storage device. Some platforms cannot open a directory for syncing, in which case this does nothing.
+     */
+    public static void syncParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not sync directory " + parentDir + ": " + e);
+        }
     }
 
 }
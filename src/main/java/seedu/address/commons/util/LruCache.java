@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A map that holds values up to a total weight, such as their size in bytes, and evicts the least recently used
+ * values to stay within it. Getting or putting a value makes it the most recently used.
+ * <p>
+ * A value heavier than the whole cache is not kept. The cache is thread-safe.
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    // In access order, from the least to the most recently used
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    /**
+     * Creates a cache that holds values of total weight up to {@code maxWeight}, each weighed by {@code weigher}.
+     * The weight of a value must not change while it is in the cache.
+     */
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        requireNonNull(weigher);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if it is not in the cache.
+     */
+    public synchronized V get(K key) {
+        requireNonNull(key);
+        return entries.get(key);
+    }
+
+    /**
+     * Puts {@code value} as the value of {@code key}, replacing any value it had, and evicts the least recently
+     * used values until the cache is within its maximum weight.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        remove(key);
+
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+        entries.put(key, value);
+        totalWeight += weight;
+
+        Iterator<V> leastRecentlyUsed = entries.values().iterator();
+        while (totalWeight > maxWeight) {
+            totalWeight -= weigher.applyAsLong(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes the value of {@code key}, if any.
+     */
+    public synchronized void remove(K key) {
+        requireNonNull(key);
+        V removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= weigher.applyAsLong(removed);
+        }
+    }
+
+    /**
+     * Removes the values of all keys that satisfy {@code predicate}.
+     */
+    public synchronized void removeIf(Predicate<K> predicate) {
+        requireNonNull(predicate);
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                totalWeight -= weigher.applyAsLong(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the cache.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of the values in the cache.
+     */
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+
+/**
+ * Creates small, square thumbnails of pictures, so that pictures shown at a small size are not decoded at their
+ * full size.
+ * <p>
+ * The thumbnail of a picture is a PNG file in the {@link #THUMBNAIL_FOLDER} folder next to the picture, and is only
+ * ever derived from it, so it can be deleted and created again at any time. Thumbnails can be created on a
+ * background thread with {@link #enqueue(Path, int)}, one at a time, in the order they were queued.
+ */
+public class ThumbnailUtil {
+
+    public static final String THUMBNAIL_FOLDER = "thumbnails";
+
+    private static final String THUMBNAIL_FORMAT = "png";
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailUtil.class);
+
+    private static final ExecutorService generator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "thumbnail-generator");
+        // Thumbnails can be created again on the next run, so they must not keep the application alive
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Returns the path of the thumbnail of the picture at {@code picture}.
+     */
+    public static Path getThumbnailPath(Path picture) {
+        requireNonNull(picture);
+        return picture.resolveSibling(THUMBNAIL_FOLDER).resolve(picture.getFileName() + "." + THUMBNAIL_FORMAT);
+    }
+
+    /**
+     * Returns true if the thumbnail of the picture at {@code picture} exists, and is not older than the picture.
+     */
+    public static boolean isThumbnailUpToDate(Path picture) {
+        requireNonNull(picture);
+        Path thumbnail = getThumbnailPath(picture);
+        try {
+            return Files.isRegularFile(thumbnail)
+                    && Files.getLastModifiedTime(thumbnail).compareTo(Files.getLastModifiedTime(picture)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates the thumbnail of the picture at {@code picture}, replacing any older thumbnail.
+     * The thumbnail is the largest centered square of the picture, scaled down to {@code size} by {@code size}
+     * pixels. Pictures smaller than that are cropped but not scaled up.
+     *
+     * @throws IOException if the picture could not be read or decoded, or the thumbnail could not be written.
+     */
+    public static void createThumbnail(Path picture, int size) throws IOException {
+        requireNonNull(picture);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Thumbnail size must be positive: " + size);
+        }
+
+        BufferedImage image = ImageIO.read(picture.toFile());
+        if (image == null) {
+            throw new IOException("Unsupported picture format: " + picture);
+        }
+        int side = Math.min(image.getWidth(), image.getHeight());
+        BufferedImage square = image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2,
+                side, side);
+        BufferedImage thumbnail = scaleDown(square, Math.min(size, side));
+
+        // The thumbnail can be created again from the picture, so it is not synced to disk
+        FileUtil.writeAtomically(getThumbnailPath(picture), tempFile -> {
+            if (!ImageIO.write(thumbnail, THUMBNAIL_FORMAT, tempFile.toFile())) {
+                throw new IOException("No writer for " + THUMBNAIL_FORMAT + " images");
+            }
+        }, SaveDurability.NONE, false);
+    }
+
+    /**
+     * Queues the creation of the thumbnail of the picture at {@code picture} and returns immediately.
+     * Nothing is done if the thumbnail is already up to date when its turn comes. A thumbnail that cannot be created
+     * is logged and skipped.
+     */
+    public static void enqueue(Path picture, int size) {
+        requireNonNull(picture);
+        generator.execute(() -> {
+            if (!Files.isRegularFile(picture) || isThumbnailUpToDate(picture)) {
+                return;
+            }
+            try {
+                createThumbnail(picture, size);
+            } catch (IOException | RuntimeException e) {
+                logger.info("Thumbnail of " + picture + " could not be created: " + e);
+            }
+        });
+    }
+
+    /**
+     * Queues the deletion of the thumbnail of the picture at {@code picture}, if any, and returns immediately.
+     * The thumbnail is deleted after any thumbnail of the picture queued before, so it is not created again.
+     */
+    public static void enqueueDeletion(Path picture) {
+        requireNonNull(picture);
+        generator.execute(() -> {
+            try {
+                Files.deleteIfExists(getThumbnailPath(picture));
+            } catch (IOException e) {
+                logger.warning("Error deleting thumbnail of " + picture + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Blocks until every thumbnail queued before this call has been processed.
+     */
+    public static void flush() {
+        try {
+            generator.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the no-op task cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Scales the square {@code image} down to {@code size} by {@code size} pixels.
+     * The image is halved repeatedly before the last step, as a single bilinear step skips most source pixels when
+     * scaling down by more than half, which leaves the thumbnail jagged.
+     */
+    private static BufferedImage scaleDown(BufferedImage image, int size) {
+        BufferedImage scaled = image;
+        int side = image.getWidth();
+        do {
+            side = Math.max(side / 2, size);
+            BufferedImage step = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(scaled, 0, 0, side, side, null);
+            graphics.dispose();
+            scaled = step;
+        } while (side > size);
+        return scaled;
+    }
+}
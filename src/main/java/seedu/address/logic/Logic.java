@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,10 +27,30 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Save the applicant's data in storage
+     * Save the applicant's data in storage, unless it is unchanged since it was last saved
      */
     void saveAddressBook() throws CommandException;
 
+    /**
+     * Records that applicants were changed in place, outside of a command, so that the next save writes them.
+     *
+     * @see seedu.address.model.Model#markAddressBookModified()
+     */
+    void markAddressBookModified();
+
+    /**
+     * Resets the profile picture of {@code applicant} to the default picture, as its picture file is missing.
+     * The repair is recorded as a change but not saved, so that displaying applicants never writes to storage; it is
+     * saved with the next save of the address book.
+     */
+    void resetMissingProfilePicture(Applicant applicant);
+
+    /**
+     * Sets the handler that is passed an error message for every save that fails after it was requested,
+     * e.g. when storage writes saves in the background. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
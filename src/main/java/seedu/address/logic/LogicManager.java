@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -86,17 +90,46 @@ public class LogicManager implements Logic {
 
     /**
      * Saves the current address book data to storage.
+     * Storage skips the write if the data has not been modified since it was last saved,
+     * so commands that only read the data cause no disk I/O.
+     * If storage writes saves in the background, errors are reported to the save failure handler instead.
      *
      * @throws CommandException If an error occurs during saving
      */
     public void saveAddressBook() throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void markAddressBookModified() {
+        model.markAddressBookModified();
+    }
+
+    @Override
+    public void resetMissingProfilePicture(Applicant applicant) {
+        requireNonNull(applicant);
+        if (applicant.getProfilePicturePath().equals(DEFAULT_PROFILE_PIC)) {
+            return;
         }
+        applicant.setProfilePicturePath(DEFAULT_PROFILE_PIC);
+        model.markAddressBookModified();
     }
 
     @Override
@@ -95,8 +95,7 @@ public abstract class ConfirmationRequiredCommand extends Command {
         requireNonNull(model);
         assert predicates != null : "Predicates must not be null in predicate-based execution";
 
-        model.updateFilteredPersonList(applicant ->
-                predicates.stream().allMatch(predicate -> predicate.test(applicant)));
+        model.updateFilteredPersonList(predicates, true);
 
         List<Applicant> filteredList = model.getFilteredPersonList();
         if (filteredList.isEmpty()) {
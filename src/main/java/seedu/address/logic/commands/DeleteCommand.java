@@ -109,9 +109,7 @@ public class DeleteCommand extends ConfirmationRequiredCommand {
         requireNonNull(model);
         requireNonNull(applicants);
 
-        for (Applicant applicant : applicants) {
-            model.deletePerson(applicant);
-        }
+        model.deletePersons(applicants);
     }
 
     @Override
@@ -125,8 +123,7 @@ public class DeleteCommand extends ConfirmationRequiredCommand {
     @Override
     protected CommandResult executeWithPredicates(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(applicant ->
-                predicates.stream().allMatch(predicate -> predicate.test(applicant)));
+        model.updateFilteredPersonList(predicates, true);
         List<Applicant> filteredList = model.getFilteredPersonList();
         if (filteredList.isEmpty()) {
             throw new CommandException(getNoResultMessage());
@@ -123,8 +123,9 @@ public class EditCommand extends Command {
         LocalDateTime originalAddedTime = applicantToEdit.getAddedTime();
         String profilePicturePath = applicantToEdit.getProfilePicturePath();
 
-        return new Applicant(updatedName, updatedPhone, updatedEmail, updatedJobPosition,
-                updatedStatus, updatedAddress, originalAddedTime, updatedTags, updatedRating, profilePicturePath);
+        return new Applicant(applicantToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                updatedJobPosition, updatedStatus, updatedAddress, originalAddedTime, updatedTags, updatedRating,
+                profilePicturePath);
     }
 
     @Override
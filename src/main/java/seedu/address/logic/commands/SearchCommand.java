@@ -73,8 +73,7 @@ public class SearchCommand extends Command {
         requireNonNull(model);
 
         // Combine all predicates using logical OR (at least one condition needs to be met)
-        model.updateFilteredPersonList(person -> predicates.stream()
-                .anyMatch(p -> p.test(person)));
+        model.updateFilteredPersonList(predicates, false);
 
         int count = model.getFilteredPersonList().size();
         if (count == 0) {
@@ -12,11 +12,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantSummary;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.JobPosition;
 import seedu.address.model.applicant.Status;
@@ -56,8 +55,8 @@ public class SummaryCommand extends Command {
     }
 
     /**
-     * Executes the summary command, optionally filtering the applicant list,
-     * and producing statistics grouped by job position and application status.
+     * Executes the summary command, producing statistics grouped by job position and application status,
+     * and then filtering the displayed applicant list to the summarized applicants.
      *
      * @param model The application's model.
      * @return A {@code CommandResult} with formatted summary data.
@@ -67,27 +66,22 @@ public class SummaryCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<Applicant> applicants = model.getAddressBook().getPersonList();
+        int totalSize = model.getAddressBook().getPersonList().size();
 
-        // Combine all predicates using logical AND (all conditions must be met)
-        ObservableList<Applicant> filteredList =
-                applicants.filtered(person -> predicates.stream()
-                        .allMatch(p -> p.test(person)));
+        // Count how many Applicants per JobPosition and per Status, from the counts kept by the model.
+        // Predicates are combined using logical AND (all conditions must be met)
+        ApplicantSummary summary = model.summarize(predicates);
+        long filteredSize = summary.getTotal();
 
-        model.updateFilteredPersonList(person -> predicates.stream()
-                .allMatch(p -> p.test(person)));
-
-        if (filteredList.isEmpty()) {
+        if (filteredSize == 0) {
             throw new CommandException(MESSAGE_NO_RESULT);
         }
 
-        // Count how many Applicants per JobPosition
-        Map<JobPosition, Long> jobPositionCountMap = filteredList.stream()
-                .collect(Collectors.groupingBy(Applicant::getJobPosition, Collectors.counting()));
+        // Show the summarized applicants. The counts above do not depend on this filter pass over the list.
+        model.updateFilteredPersonList(predicates, true);
 
-        // Count how many Applicants per Status
-        Map<Status, Long> statusCountMap = filteredList.stream()
-                .collect(Collectors.groupingBy(Applicant::getStatus, Collectors.counting()));
+        Map<JobPosition, Long> jobPositionCountMap = summary.getJobPositionCounts();
+        Map<Status, Long> statusCountMap = summary.getStatusCounts();
 
         // Get strings:
         String jobPositionStats = jobPositionCountMap.entrySet()
@@ -106,7 +100,7 @@ public class SummaryCommand extends Command {
                 + statusStats + "]";
 
         return new CommandResult(String.format(
-                String.format(MESSAGE_SUCCESS, filteredList.size(), applicants.size(), statisticsString)));
+                String.format(MESSAGE_SUCCESS, filteredSize, totalSize, statisticsString)));
     }
 
     /**
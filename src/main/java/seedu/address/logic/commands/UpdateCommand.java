@@ -117,9 +117,7 @@ public class UpdateCommand extends ConfirmationRequiredCommand {
         requireNonNull(model);
         requireNonNull(applicants);
 
-        for (Applicant applicant : applicants) {
-            model.setStatus(applicant, status);
-        }
+        model.setStatusBulk(applicants, status);
     }
 
     @Override
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantQuery;
+import seedu.address.model.applicant.ApplicantSummary;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.UniqueApplicantList;
 
 /**
@@ -16,7 +22,11 @@ import seedu.address.model.applicant.UniqueApplicantList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Source of modification versions, shared by all address books so that versions are never reused
+    private static final AtomicLong versions = new AtomicLong();
+
     private final UniqueApplicantList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +47,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        // an exact copy holds the same data, so it can share the version of the original
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -47,6 +59,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Applicant> applicants) {
         this.persons.setPersons(applicants);
+        markModified();
+    }
+
+    /**
+     * Bulk-loads {@code applicants} into the applicant list, replacing its contents.
+     * Uniqueness is checked in a single pass and the list is filled with a single change.
+     *
+     * @throws seedu.address.model.applicant.exceptions.DuplicatePersonException listing every clashing pair
+     *     if {@code applicants} contains duplicate applicants.
+     */
+    public void loadPersons(Collection<Applicant> applicants) {
+        this.persons.loadPersons(applicants);
+        markModified();
     }
 
     /**
@@ -55,7 +80,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook otherAddressBook) {
+            // already known to be unique, so its indexes can be copied instead of rebuilt
+            persons.setPersons(otherAddressBook.persons);
+        } else {
+            persons.loadPersons(newData.getPersonList());
+        }
+        markModified();
     }
 
     //// applicant-level operations
@@ -74,6 +105,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Applicant p) {
         persons.add(p);
+        markModified();
     }
 
     /**
@@ -86,6 +118,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedApplicant);
 
         persons.setPerson(target, editedApplicant);
+        markModified();
+    }
+
+    /**
+     * Replaces each applicant in {@code targets} with the applicant at the same position in {@code editedApplicants},
+     * as a single change to the applicant list.
+     * Every applicant in {@code targets} must exist in the address book.
+     * The applicant identities after the replacements must be unique.
+     */
+    public void applyBatch(List<Applicant> targets, List<Applicant> editedApplicants) {
+        requireAllNonNull(targets, editedApplicants);
+
+        persons.applyBatch(targets, editedApplicants);
+        markModified();
     }
 
     /**
@@ -94,10 +140,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Applicant key) {
         persons.remove(key);
+        markModified();
     }
 
+    /**
+     * Removes all applicants in {@code keys} from this {@code AddressBook} as a single change to the applicant list.
+     * Every applicant in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Applicant> keys) {
+        requireNonNull(keys);
+
+        persons.removeAll(keys);
+        markModified();
+    }
+
+    /**
+     * Removes the profile pictures of all applicants in this {@code AddressBook}.
+     */
     public void removeAllProfilePicture() {
         persons.removeAllProfilePicture();
+        markModified();
+    }
+
+    /**
+     * Compiles {@code predicates} into a query over the applicants in the address book.
+     *
+     * @see UniqueApplicantList#compileQuery(List, boolean)
+     */
+    public ApplicantQuery compileQuery(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        return persons.compileQuery(predicates, isMatchAll);
+    }
+
+    /**
+     * Returns the summary of the applicants in the address book that match all of {@code predicates}.
+     *
+     * @see UniqueApplicantList#summarize(List)
+     */
+    public ApplicantSummary summarize(List<? extends IdentifierPredicate> predicates) {
+        return persons.summarize(predicates);
     }
 
     /**
@@ -112,6 +192,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         } else {
             persons.sortPersonsByDescendingOrder(prefix);
         }
+        // the order of the applicants is saved too
+        markModified();
+    }
+
+    /**
+     * Moves this address book to a new modification version.
+     * Must be called after applicants in the address book are changed in place, e.g. their profile picture paths,
+     * as such changes cannot be detected by the address book itself.
+     */
+    public void markModified() {
+        version = versions.incrementAndGet();
     }
 
     //// util methods
@@ -128,6 +219,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
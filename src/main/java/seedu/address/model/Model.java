@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantSummary;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
 import seedu.address.model.applicant.Status;
 
@@ -66,8 +69,20 @@ public interface Model {
      */
     void deletePerson(Applicant target);
 
+    /**
+     * Deletes all the given applicants at once, as a single change to the applicant list.
+     * Every applicant in {@code targets} must exist in the address book.
+     */
+    void deletePersons(List<Applicant> targets);
+
     void deleteAllProfilePicture();
 
+    /**
+     * Records that applicants in the address book were changed in place, e.g. their profile picture paths,
+     * so that the address book moves to a new modification version and is saved again.
+     */
+    void markAddressBookModified();
+
     /**
      * Adds the given applicant.
      * {@code applicant} must not already exist in the address book.
@@ -82,8 +97,24 @@ public interface Model {
      */
     void setPerson(Applicant target, Applicant editedApplicant);
 
+    /**
+     * Replaces each applicant in {@code targets} with the applicant at the same position in {@code editedApplicants}.
+     * All replacements are applied at once, as a single change to the applicant list.
+     * Every applicant in {@code targets} must exist in the address book, and no applicant may be targeted twice.
+     * The applicant identities after the replacements must be unique.
+     */
+    void applyBatch(List<Applicant> targets, List<Applicant> editedApplicants);
+
     Applicant setStatus(Applicant target, Status status);
 
+    /**
+     * Sets the status of every applicant in {@code targets} to {@code status} in a single batch.
+     * Returns the updated applicants, in the same order as {@code targets}.
+     *
+     * @see #applyBatch(List, List)
+     */
+    List<Applicant> setStatusBulk(List<Applicant> targets, Status status);
+
     Applicant setRating(Applicant target, Rating rating);
 
     // Added for Applicant sorting
@@ -98,5 +129,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Applicant> predicate);
 
+    /**
+     * Updates the filter of the filtered applicant list to show the applicants matching all of {@code predicates}
+     * if {@code isMatchAll} is true, or any of them otherwise.
+     * The predicates are checked in an order planned from the indexes of the address book, and those that can be
+     * answered from an index are checked by membership in it instead of being tested against every applicant.
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    void updateFilteredPersonList(List<IdentifierPredicate> predicates, boolean isMatchAll);
+
     int getFilteredPersonListSize();
+
+    /**
+     * Returns the number of applicants in the address book that match all of {@code predicates},
+     * broken down by job position and by status.
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    ApplicantSummary summarize(List<IdentifierPredicate> predicates);
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +15,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantQuery;
+import seedu.address.model.applicant.ApplicantSummary;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
 import seedu.address.model.applicant.Status;
 
@@ -101,10 +106,20 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(List<Applicant> targets) {
+        addressBook.removePersons(targets);
+    }
+
     public void deleteAllProfilePicture() {
         addressBook.removeAllProfilePicture();
     }
 
+    @Override
+    public void markAddressBookModified() {
+        addressBook.markModified();
+    }
+
     @Override
     public void addPerson(Applicant applicant) {
         addressBook.addPerson(applicant);
@@ -118,25 +133,52 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedApplicant);
     }
 
+    @Override
+    public void applyBatch(List<Applicant> targets, List<Applicant> editedApplicants) {
+        requireAllNonNull(targets, editedApplicants);
+
+        addressBook.applyBatch(targets, editedApplicants);
+    }
+
     @Override
     public Applicant setStatus(Applicant target, Status status) {
         requireAllNonNull(target, status);
 
-        Applicant editedApplicant = new Applicant(target.getName(), target.getPhone(), target.getEmail(),
-                target.getJobPosition(), status, target.getAddress(), target.getAddedTime(), target.getTags(),
-                target.getRating(), target.getProfilePicturePath());
+        Applicant editedApplicant = withStatus(target, status);
         this.setPerson(target, editedApplicant);
 
         return editedApplicant;
     }
 
+    @Override
+    public List<Applicant> setStatusBulk(List<Applicant> targets, Status status) {
+        requireAllNonNull(targets, status);
+
+        List<Applicant> editedApplicants = new ArrayList<>(targets.size());
+        for (Applicant target : targets) {
+            editedApplicants.add(withStatus(target, status));
+        }
+        this.applyBatch(targets, editedApplicants);
+
+        return editedApplicants;
+    }
+
+    /**
+     * Returns a copy of {@code target} with its status replaced by {@code status}.
+     */
+    private static Applicant withStatus(Applicant target, Status status) {
+        return new Applicant(target.getId(), target.getName(), target.getPhone(),
+                target.getEmail(), target.getJobPosition(), status, target.getAddress(), target.getAddedTime(),
+                target.getTags(), target.getRating(), target.getProfilePicturePath());
+    }
+
     @Override
     public Applicant setRating(Applicant target, Rating rating) {
         requireAllNonNull(target, rating);
 
-        Applicant editedApplicant = new Applicant(target.getName(), target.getPhone(), target.getEmail(),
-                target.getJobPosition(), target.getStatus(), target.getAddress(), target.getAddedTime(),
-                target.getTags(), rating, target.getProfilePicturePath());
+        Applicant editedApplicant = new Applicant(target.getId(), target.getName(), target.getPhone(),
+                target.getEmail(), target.getJobPosition(), target.getStatus(), target.getAddress(),
+                target.getAddedTime(), target.getTags(), rating, target.getProfilePicturePath());
         this.setPerson(target, editedApplicant);
 
         return editedApplicant;
@@ -167,10 +209,25 @@ public class ModelManager implements Model {
         filteredApplicants.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(List<IdentifierPredicate> predicates, boolean isMatchAll) {
+        requireNonNull(predicates);
+
+        ApplicantQuery query = addressBook.compileQuery(predicates, isMatchAll);
+        logger.fine(query.explain());
+        updateFilteredPersonList(query);
+    }
+
     public int getFilteredPersonListSize() {
         return filteredApplicants.size();
     }
 
+    @Override
+    public ApplicantSummary summarize(List<IdentifierPredicate> predicates) {
+        requireNonNull(predicates);
+        return addressBook.summarize(predicates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
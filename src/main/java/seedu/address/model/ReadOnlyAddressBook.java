@@ -14,4 +14,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Applicant> getPersonList();
 
+    /**
+     * Returns the modification version of the data.
+     * The version increases every time the data changes, and no two different states of the data share a version,
+     * so data that has already been saved at this version need not be saved again.
+     */
+    long getVersion();
+
+    /**
+     * Returns the profile picture path of the applicant at {@code index} of {@link #getPersonList()}.
+     * Profile picture paths are changed in place, so a snapshot of the address book overrides this to return the
+     * path as it was when the snapshot was taken.
+     */
+    default String getProfilePicturePath(int index) {
+        return getPersonList().get(index).getProfilePicturePath();
+    }
+
 }
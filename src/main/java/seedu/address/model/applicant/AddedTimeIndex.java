@@ -0,0 +1,230 @@
+package seedu.address.model.applicant;
+
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
+
+/**
+ * An index of applicants ordered by the time they were added.
+ * Applicants added before or after a given time are found by a range scan, in O(log n + k) time, and counted from
+ * cumulative counts of the times, in amortized O(log n) time.
+ *
+ * The sets returned by {@link #before(LocalDateTime)} and {@link #after(LocalDateTime)} are live:
+ * they reflect every later change made to the index.
+ */
+class AddedTimeIndex {
+
+    private final NavigableMap<LocalDateTime, Set<Applicant>> buckets = new TreeMap<>();
+    private int size;
+
+    // The times of the buckets in ascending order, with a Fenwick tree of their applicant counts, so that the number
+    // of applicants added before a time is a prefix sum. A time whose bucket was removed stays here with a count of 0.
+    // New applicants are usually added after all others, which appends to the tree; other changes to the times mark
+    // the tree as stale, and it is rebuilt the next time it is needed.
+    private List<LocalDateTime> countedTimes = new ArrayList<>();
+    private int[] counts = new int[1];
+    private boolean isCountsStale;
+
+    /**
+     * Adds {@code applicant} to the index.
+     */
+    void add(Applicant applicant) {
+        // applicants are unique in the list, so buckets can compare them by identity instead of by all their fields
+        if (buckets.computeIfAbsent(applicant.getAddedTime(), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(applicant)) {
+            size++;
+            updateCount(applicant.getAddedTime(), 1);
+        }
+    }
+
+    /**
+     * Removes {@code applicant} from the index.
+     */
+    void remove(Applicant applicant) {
+        Set<Applicant> bucket = buckets.get(applicant.getAddedTime());
+        if (bucket == null || !bucket.remove(applicant)) {
+            return;
+        }
+        size--;
+        updateCount(applicant.getAddedTime(), -1);
+        if (bucket.isEmpty()) {
+            buckets.remove(applicant.getAddedTime());
+            // drop the times of removed buckets once they make up most of the tree
+            if (countedTimes.size() > 2 * buckets.size() + 16) {
+                isCountsStale = true;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code applicants}.
+     */
+    void setAll(Collection<Applicant> applicants) {
+        buckets.clear();
+        size = 0;
+        isCountsStale = true;
+        for (Applicant applicant : applicants) {
+            add(applicant);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the applicants added strictly before {@code time}.
+     */
+    Set<Applicant> before(LocalDateTime time) {
+        return new RangeView(buckets.headMap(time, false), () -> countBefore(time));
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the applicants added strictly after {@code time}.
+     */
+    Set<Applicant> after(LocalDateTime time) {
+        return new RangeView(buckets.tailMap(time, false), () -> size - countBefore(time) - countAt(time));
+    }
+
+    /**
+     * Returns the number of applicants added strictly before {@code time}.
+     */
+    private int countBefore(LocalDateTime time) {
+        ensureCountsUpToDate();
+        int position = Collections.binarySearch(countedTimes, time);
+        return prefixCount(position >= 0 ? position : -position - 1);
+    }
+
+    private int countAt(LocalDateTime time) {
+        Set<Applicant> bucket = buckets.get(time);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    private void updateCount(LocalDateTime time, int delta) {
+        if (isCountsStale) {
+            return;
+        }
+        int position = Collections.binarySearch(countedTimes, time);
+        if (position >= 0) {
+            for (int i = position + 1; i < countedTimes.size() + 1; i += i & -i) {
+                counts[i] += delta;
+            }
+        } else if (-position - 1 == countedTimes.size()) {
+            appendCount(time, delta);
+        } else {
+            isCountsStale = true;
+        }
+    }
+
+    /**
+     * Appends {@code time}, which is after all the counted times, with a count of {@code count}.
+     */
+    private void appendCount(LocalDateTime time, int count) {
+        countedTimes.add(time);
+        int i = countedTimes.size();
+        if (i == counts.length) {
+            counts = Arrays.copyOf(counts, 2 * counts.length);
+        }
+        // the new node covers the times (i - lowbit(i), i]
+        counts[i] = count + prefixCount(i - 1) - prefixCount(i - (i & -i));
+    }
+
+    /**
+     * Returns the total count of the first {@code timeCount} counted times.
+     */
+    private int prefixCount(int timeCount) {
+        int count = 0;
+        for (int i = timeCount; i > 0; i -= i & -i) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    private void ensureCountsUpToDate() {
+        if (!isCountsStale) {
+            return;
+        }
+        countedTimes = new ArrayList<>(buckets.keySet());
+        counts = new int[countedTimes.size() + 1];
+        int i = 1;
+        for (Set<Applicant> bucket : buckets.values()) {
+            // builds the tree in O(n) time, by passing each node's total on to its parent
+            counts[i] += bucket.size();
+            int parent = i + (i & -i);
+            if (parent < counts.length) {
+                counts[parent] += counts[i];
+            }
+            i++;
+        }
+        isCountsStale = false;
+    }
+
+    /**
+     * Returns the applicants in {@code applicants}, which must all be in this index, ordered by added time.
+     * Applicants added at the same time keep their order in {@code applicants}, the same as a stable sort would.
+     * The order of times is read from the index, so this takes O(n) time instead of O(n log n).
+     */
+    Applicant[] sort(List<Applicant> applicants, boolean isAscendingOrder) {
+        NavigableMap<LocalDateTime, Set<Applicant>> orderedBuckets = isAscendingOrder
+                ? buckets
+                : buckets.descendingMap();
+
+        // Counting sort: each time starts where the applicants of all earlier times end
+        Map<LocalDateTime, Integer> nextSlot = new HashMap<>();
+        int slot = 0;
+        for (Map.Entry<LocalDateTime, Set<Applicant>> bucket : orderedBuckets.entrySet()) {
+            nextSlot.put(bucket.getKey(), slot);
+            slot += bucket.getValue().size();
+        }
+
+        Applicant[] sorted = new Applicant[applicants.size()];
+        for (Applicant applicant : applicants) {
+            sorted[nextSlot.merge(applicant.getAddedTime(), 1, Integer::sum) - 1] = applicant;
+        }
+        return sorted;
+    }
+
+    /**
+     * A live view of all the applicants in a range of buckets.
+     */
+    private static class RangeView extends AbstractSet<Applicant> {
+
+        private final NavigableMap<LocalDateTime, Set<Applicant>> range;
+        private final IntSupplier rangeSize;
+
+        RangeView(NavigableMap<LocalDateTime, Set<Applicant>> range, IntSupplier rangeSize) {
+            this.range = range;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Applicant applicant)) {
+                return false;
+            }
+            // a time outside the range is not a key of the range, so this also checks the range
+            Set<Applicant> bucket = range.get(applicant.getAddedTime());
+            return bucket != null && bucket.contains(applicant);
+        }
+
+        @Override
+        public Iterator<Applicant> iterator() {
+            return range.values().stream()
+                    .flatMap(Set::stream)
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return rangeSize.getAsInt();
+        }
+    }
+}
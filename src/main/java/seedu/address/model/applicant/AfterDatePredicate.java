@@ -2,6 +2,8 @@ package seedu.address.model.applicant;
 
 import java.time.LocalDateTime;
 
+import seedu.address.commons.util.ToStringBuilder;
+
 /**
  * Represents a predicate that tests whether an {@code Applicant}'s application date
  * is after the specified date.
@@ -19,6 +21,10 @@ public class AfterDatePredicate extends IdentifierPredicate {
         this.afterDate = afterDate;
     }
 
+    LocalDateTime getAfterDate() {
+        return afterDate;
+    }
+
     @Override
     public boolean test(Applicant applicant) {
         return applicant.getAddedTime().isAfter(afterDate);
@@ -28,4 +34,11 @@ public class AfterDatePredicate extends IdentifierPredicate {
     public boolean equals(Object other) {
         return other instanceof AfterDatePredicate && afterDate.equals(((AfterDatePredicate) other).afterDate);
     }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("identifierType", "after")
+                .add("keyword", keyword).toString();
+    }
 }
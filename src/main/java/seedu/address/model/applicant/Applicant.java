@@ -3,9 +3,6 @@ package seedu.address.model.applicant;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -13,7 +10,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
+import seedu.address.commons.util.FileDeletionQueue;
+import seedu.address.commons.util.ThumbnailUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -22,10 +22,9 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Applicant {
-    public static final Applicant NULL_APPLICANT = new Applicant(
-            new Name("name"), new Phone("12345678"), new Email("null@mail.com"),
-            new JobPosition("job"), new Status("status"), new Address("address"),
-            LocalDateTime.now(), new HashSet<>(), new Rating("-1"), "path");
+
+    // Surrogate key, carried over to every edited version of this applicant
+    private final UUID id;
 
     // Identity fields
     private final Name name;
@@ -42,13 +41,15 @@ public class Applicant {
     private String profilePicturePath;
 
     /**
-     * Constructor of Applicant.
+     * Constructor of Applicant with a given surrogate {@code id}.
+     * Used to create an edited version of an existing applicant, or to restore a saved applicant.
      * Every field must be present and not null, except {@code profilePicturePath}.
      */
-    public Applicant(Name name, Phone phone, Email email, JobPosition jobPosition, Status status,
+    public Applicant(UUID id, Name name, Phone phone, Email email, JobPosition jobPosition, Status status,
                      Address address, LocalDateTime addedTime, Set<Tag> tags,
                      Rating rating, String profilePicturePath) {
-        requireAllNonNull(name, phone, email, jobPosition, status, address, addedTime, tags, rating);
+        requireAllNonNull(id, name, phone, email, jobPosition, status, address, addedTime, tags, rating);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -65,6 +66,17 @@ public class Applicant {
         }
     }
 
+    /**
+     * Constructor of Applicant with a newly generated surrogate id.
+     * Every field must be present and not null, except {@code profilePicturePath}.
+     */
+    public Applicant(Name name, Phone phone, Email email, JobPosition jobPosition, Status status,
+                     Address address, LocalDateTime addedTime, Set<Tag> tags,
+                     Rating rating, String profilePicturePath) {
+        this(UUID.randomUUID(), name, phone, email, jobPosition, status, address, addedTime, tags,
+                rating, profilePicturePath);
+    }
+
     /**
      * Constructor of Applicant with no profile picture and assigned rating
      */
@@ -92,6 +104,23 @@ public class Applicant {
                 new Rating("-1"), profilePicturePath);
     }
 
+    /**
+     * Returns the surrogate id of this applicant.
+     * The id never changes, and is shared by every edited version of the same applicant.
+     * It is not part of {@link #equals(Object)}.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this applicant with the surrogate id {@code id} instead.
+     */
+    Applicant withId(UUID id) {
+        return new Applicant(id, name, phone, email, jobPosition, status, address, addedTime, tags, rating,
+                profilePicturePath);
+    }
+
     public Name getName() {
         return name;
     }
@@ -162,18 +191,16 @@ public class Applicant {
     }
 
     /**
-     * Deletes the image file in the profile pictures folder if it is not the default profile picture.
+     * Deletes the image file in the profile pictures folder if it is not the default profile picture,
+     * and resets the profile picture to the default one.
+     * The file and its thumbnail are deleted in the background, so this method does not wait for disk I/O.
      */
     public void deleteProfilePic() {
         if (!profilePicturePath.equals(DEFAULT_PROFILE_PIC)) {
-            Path photoPath = Paths.get(profilePicturePath);
-            try {
-                Files.delete(photoPath);
-                // set it to default profile picture
-                profilePicturePath = DEFAULT_PROFILE_PIC;
-            } catch (IOException e) {
-                System.err.println("Error deleting photo: " + e.getMessage());
-            }
+            FileDeletionQueue.enqueue(Paths.get(profilePicturePath));
+            ThumbnailUtil.enqueueDeletion(Paths.get(profilePicturePath));
+            // set it to default profile picture
+            profilePicturePath = DEFAULT_PROFILE_PIC;
         }
         // else do nothing, don't delete the default profile pic
     }
@@ -194,7 +221,7 @@ public class Applicant {
         }
 
         Applicant otherApplicant = (Applicant) other;
-        // don't compare the added time
+        // don't compare the added time and the surrogate id
         return name.equals(otherApplicant.name)
                 && phone.equals(otherApplicant.phone)
                 && email.equals(otherApplicant.email)
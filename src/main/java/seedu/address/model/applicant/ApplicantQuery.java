@@ -0,0 +1,189 @@
+package seedu.address.model.applicant;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A compiled query that matches applicants against all, or any, of a list of {@code IdentifierPredicate}s.
+ * <p>
+ * When compiled, each predicate that can be answered from an index of the {@code UniqueApplicantList} is looked up
+ * to find how many applicants it matches. The predicates are then ordered so that testing an applicant stops as
+ * early as possible: the most selective predicate first when matching all, the least selective first when matching
+ * any. {@link #execute()} reads candidates from the indexes instead of scanning the whole list whenever it can.
+ * <p>
+ * As a {@code Predicate}, e.g. of a filtered list, the query answers indexed predicates by membership in their index
+ * lookups, which are live views of the indexes, so an applicant outside the most selective lookup is rejected with
+ * a single hash lookup when matching all. Only the other predicates are tested against the applicant's fields.
+ * <p>
+ * Use {@link #explain()} to see the plan that was chosen.
+ */
+public class ApplicantQuery implements Predicate<Applicant> {
+
+    private final UniqueApplicantList applicants;
+    private final boolean isMatchAll;
+    private final List<Step> steps;
+
+    // The indexed step whose matches are the candidates for execute(), or null if every applicant must be scanned
+    private final Step driver;
+
+    private ApplicantQuery(UniqueApplicantList applicants, boolean isMatchAll, List<Step> steps) {
+        this.applicants = applicants;
+        this.isMatchAll = isMatchAll;
+        this.steps = steps;
+        this.driver = chooseDriver();
+    }
+
+    /**
+     * Compiles {@code predicates} into a query over {@code applicants}.
+     *
+     * @param isMatchAll whether an applicant must match all of {@code predicates}, instead of any of them.
+     */
+    public static ApplicantQuery compile(List<? extends IdentifierPredicate> predicates, boolean isMatchAll,
+                                         UniqueApplicantList applicants) {
+        requireAllNonNull(predicates, applicants);
+
+        int size = applicants.asUnmodifiableObservableList().size();
+        List<Step> steps = new ArrayList<>(predicates.size());
+        for (IdentifierPredicate predicate : predicates) {
+            Set<Applicant> matches = applicants.lookUp(predicate).orElse(null);
+            // without an index, assume the worst case that every applicant matches
+            int estimate = matches == null ? size : matches.size();
+            steps.add(new Step(predicate, matches, estimate));
+        }
+
+        // List#sort is stable, so predicates with the same estimate keep the order they were given in
+        Comparator<Step> bySelectivity = Comparator.comparingInt(step -> step.estimate);
+        steps.sort(isMatchAll ? bySelectivity : bySelectivity.reversed());
+        return new ApplicantQuery(applicants, isMatchAll, steps);
+    }
+
+    /**
+     * Returns true if {@code applicant}, an applicant in the list, matches this query.
+     * The predicates are checked in the planned order. Indexed predicates are answered from the live index lookups,
+     * and the others are tested directly, so this stays correct as the list changes.
+     */
+    @Override
+    public boolean test(Applicant applicant) {
+        for (Step step : steps) {
+            if (step.test(applicant) != isMatchAll) {
+                return !isMatchAll;
+            }
+        }
+        return isMatchAll;
+    }
+
+    /**
+     * Returns the applicants in the list that currently match this query, in list order.
+     */
+    public List<Applicant> execute() {
+        List<Applicant> matches = new ArrayList<>();
+        if (driver == null) {
+            for (Applicant applicant : applicants) {
+                if (test(applicant)) {
+                    matches.add(applicant);
+                }
+            }
+            return matches;
+        }
+
+        Collection<Applicant> candidates = isMatchAll ? driver.matches : unionOfMatches();
+        for (Applicant candidate : candidates) {
+            if (!isMatchAll || testAllExcept(driver, candidate)) {
+                matches.add(candidate);
+            }
+        }
+        // candidates are read from the indexes, so they are the very applicants in the list, at known positions
+        matches.sort(Comparator.comparingInt(applicants::positionOf));
+        return matches;
+    }
+
+    /**
+     * Returns a description of the plan, listing the predicates in the order they are tested.
+     */
+    public String explain() {
+        StringBuilder plan = new StringBuilder(isMatchAll ? "Match all of " : "Match any of ")
+                .append(steps.size()).append(" predicate(s) by ");
+        if (driver == null) {
+            plan.append("scanning all ").append(applicants.asUnmodifiableObservableList().size())
+                    .append(" applicants");
+        } else if (isMatchAll) {
+            plan.append("reading ").append(driver.estimate).append(" candidate(s) from the index for ")
+                    .append(driver.predicate);
+        } else {
+            plan.append("taking the union of their index lookups");
+        }
+
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            plan.append("\n  ").append(i + 1).append(". ")
+                    .append(step.matches == null ? "[test]" : "[index, " + step.estimate + " match(es)]")
+                    .append(' ').append(step.predicate);
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Returns the step to read candidates from in {@link #execute()}, or null if the list has to be scanned.
+     * Matching all needs one indexed step, and the most selective one is chosen. Matching any needs every step
+     * to be indexed, as applicants matched by an unindexed step could otherwise be missed.
+     */
+    private Step chooseDriver() {
+        Step mostSelective = null;
+        for (Step step : steps) {
+            if (step.matches == null && !isMatchAll) {
+                return null;
+            }
+            if (step.matches != null && (mostSelective == null || step.estimate < mostSelective.estimate)) {
+                mostSelective = step;
+            }
+        }
+        return mostSelective;
+    }
+
+    private Set<Applicant> unionOfMatches() {
+        Set<Applicant> union = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Step step : steps) {
+            union.addAll(step.matches);
+        }
+        return union;
+    }
+
+    private boolean testAllExcept(Step skipped, Applicant applicant) {
+        for (Step step : steps) {
+            if (step != skipped && !step.test(applicant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One predicate of the query, with its index lookup if it has one.
+     */
+    private static class Step {
+        private final IdentifierPredicate predicate;
+        private final Set<Applicant> matches;
+        private final int estimate;
+
+        Step(IdentifierPredicate predicate, Set<Applicant> matches, int estimate) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.estimate = estimate;
+        }
+
+        /**
+         * Returns true if {@code applicant}, an applicant in the list, matches the predicate of this step.
+         */
+        boolean test(Applicant applicant) {
+            return matches != null ? matches.contains(applicant) : predicate.test(applicant);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.applicant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The number of applicants in a group of applicants, broken down by job position and by status.
+ * Guarantees: immutable; every count is positive.
+ */
+public class ApplicantSummary {
+
+    private final long total;
+    private final Map<JobPosition, Long> jobPositionCounts;
+    private final Map<Status, Long> statusCounts;
+
+    /**
+     * Creates a summary of {@code total} applicants with the given counts per job position and per status.
+     */
+    ApplicantSummary(long total, Map<JobPosition, Long> jobPositionCounts, Map<Status, Long> statusCounts) {
+        requireNonNull(jobPositionCounts);
+        requireNonNull(statusCounts);
+        this.total = total;
+        this.jobPositionCounts = Collections.unmodifiableMap(jobPositionCounts);
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+    }
+
+    /**
+     * Returns a summary of {@code applicants}, counted in a single pass.
+     */
+    public static ApplicantSummary of(Iterable<Applicant> applicants) {
+        requireNonNull(applicants);
+
+        long total = 0;
+        Map<JobPosition, Long> jobPositionCounts = new HashMap<>();
+        Map<Status, Long> statusCounts = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            total++;
+            jobPositionCounts.merge(applicant.getJobPosition(), 1L, Long::sum);
+            statusCounts.merge(applicant.getStatus(), 1L, Long::sum);
+        }
+        return new ApplicantSummary(total, jobPositionCounts, statusCounts);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns an unmodifiable map from each job position in the group to the number of applicants with it.
+     */
+    public Map<JobPosition, Long> getJobPositionCounts() {
+        return jobPositionCounts;
+    }
+
+    /**
+     * Returns an unmodifiable map from each status in the group to the number of applicants with it.
+     */
+    public Map<Status, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicantSummary otherSummary)) {
+            return false;
+        }
+
+        return total == otherSummary.total
+                && jobPositionCounts.equals(otherSummary.jobPositionCounts)
+                && statusCounts.equals(otherSummary.statusCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, jobPositionCounts, statusCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("total", total)
+                .add("jobPositionCounts", jobPositionCounts)
+                .add("statusCounts", statusCounts)
+                .toString();
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.applicant;
 
 import java.time.LocalDateTime;
 
+import seedu.address.commons.util.ToStringBuilder;
+
 /**
  * Represents a predicate that tests whether an {@code Applicant}'s application date
  * is before the specified date.
@@ -19,6 +21,10 @@ public class BeforeDatePredicate extends IdentifierPredicate {
         this.beforeDate = beforeDate;
     }
 
+    LocalDateTime getBeforeDate() {
+        return beforeDate;
+    }
+
     @Override
     public boolean test(Applicant applicant) {
         return applicant.getAddedTime().isBefore(beforeDate);
@@ -29,4 +35,11 @@ public class BeforeDatePredicate extends IdentifierPredicate {
         return other instanceof BeforeDatePredicate
                 && beforeDate.equals(((BeforeDatePredicate) other).beforeDate);
     }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("identifierType", "before")
+                .add("keyword", keyword).toString();
+    }
 }
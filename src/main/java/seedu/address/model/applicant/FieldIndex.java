@@ -0,0 +1,120 @@
+package seedu.address.model.applicant;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from the value of one applicant field to the applicants with that value.
+ * Values are compared case-insensitively, in the same way as {@link String#equalsIgnoreCase(String)}.
+ *
+ * The sets returned by {@link #get(String)} are live: they reflect every later change made to the index.
+ */
+class FieldIndex {
+
+    private final Function<Applicant, String> fieldValue;
+
+    // Only values held by some applicant have a posting set, so the index grows with the data and not with lookups
+    private final Map<String, Set<Applicant>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index on the field extracted by {@code fieldValue}.
+     */
+    FieldIndex(Function<Applicant, String> fieldValue) {
+        this.fieldValue = fieldValue;
+    }
+
+    /**
+     * Adds {@code applicant} to the index.
+     */
+    void add(Applicant applicant) {
+        // applicants are unique in the list, so postings can compare them by identity instead of by all their fields
+        postings.computeIfAbsent(normalize(fieldValue.apply(applicant)), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(applicant);
+    }
+
+    /**
+     * Removes {@code applicant} from the index.
+     */
+    void remove(Applicant applicant) {
+        String key = normalize(fieldValue.apply(applicant));
+        Set<Applicant> postingSet = postings.get(key);
+        if (postingSet != null && postingSet.remove(applicant) && postingSet.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code applicants}.
+     */
+    void setAll(Collection<Applicant> applicants) {
+        postings.clear();
+        for (Applicant applicant : applicants) {
+            add(applicant);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the applicants whose field value is equal to {@code value},
+     * ignoring case. Looking up a value adds nothing to the index.
+     */
+    Set<Applicant> get(String value) {
+        return new PostingView(normalize(value));
+    }
+
+    /**
+     * Returns the number of values held by at least one applicant in the index.
+     */
+    int valueCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns a key that is the same for two strings if and only if they are equal ignoring case.
+     * Each character is mapped the same way as {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        value.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    /**
+     * A live view of the posting set stored under one key, which is empty while no applicant has that key.
+     */
+    private class PostingView extends AbstractSet<Applicant> {
+
+        private final String key;
+
+        PostingView(String key) {
+            this.key = key;
+        }
+
+        private Set<Applicant> postingSet() {
+            return postings.getOrDefault(key, Collections.emptySet());
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return postingSet().contains(o);
+        }
+
+        @Override
+        public Iterator<Applicant> iterator() {
+            return Collections.unmodifiableSet(postingSet()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return postingSet().size();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.applicant;
+
+/**
+ * Checks the values of applicant fields without compiling a regex on every call.
+ * <p>
+ * Each check accepts exactly the strings matched by the {@code VALIDATION_REGEX} of the fields using it, as
+ * {@link String#matches(String)} would, but scans the string directly and allocates nothing. Fields with a more
+ * complex format match a {@link java.util.regex.Pattern} compiled once instead.
+ */
+public class FieldValidator {
+
+    /**
+     * Returns true if {@code test} is an ASCII letter or digit followed by any number of ASCII letters, digits and
+     * spaces, i.e. if it matches {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} ASCII digits, i.e. if it matches
+     * {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a digit from 1 to 5, or -1, i.e. if it matches {@code ^[1-5]$|^-1$}.
+     */
+    public static boolean isRating(String test) {
+        if (test.length() == 1) {
+            return test.charAt(0) >= '1' && test.charAt(0) <= '5';
+        }
+        return test.equals("-1");
+    }
+
+    /**
+     * Returns true if {@code test} starts with a character other than whitespace, and has no line terminators
+     * after that, i.e. if it matches {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .} in a regex.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
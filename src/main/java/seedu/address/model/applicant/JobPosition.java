@@ -35,7 +35,7 @@ public class JobPosition {
      * Returns true if a given string is a valid Job Position.
      */
     public static boolean isValidJobPosition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isAlphanumericWithSpaces(test);
     }
 
     @Override
@@ -12,7 +12,8 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
-    public static final String VALIDATION_REGEX = "\\d{3,}";
+    public static final int MIN_LENGTH = 3;
+    public static final String VALIDATION_REGEX = "\\d{" + MIN_LENGTH + ",}";
     public final String value;
 
     /**
@@ -30,7 +31,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isDigits(test, MIN_LENGTH);
     }
 
     @Override
@@ -36,7 +36,7 @@ public class Rating {
      * Returns true if a given string is a valid rating.
      */
     public static boolean isValidRating(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isRating(test);
     }
 
     /**
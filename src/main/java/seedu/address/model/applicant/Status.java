@@ -34,7 +34,7 @@ public class Status {
      * Returns true if a given string is a valid status.
      */
     public static boolean isValidStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return FieldValidator.isAlphanumericWithSpaces(test);
     }
 
     @Override
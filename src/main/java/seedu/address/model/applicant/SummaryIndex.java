@@ -0,0 +1,116 @@
+package seedu.address.model.applicant;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Live counts of applicants per job position, per status, and per combination of the two.
+ * The counts are updated on every change to the index, so an unfiltered summary takes O(#groups) time,
+ * and a summary filtered only by job position and status takes O(#job positions x #statuses) time,
+ * however many applicants there are.
+ */
+class SummaryIndex {
+
+    private final Map<JobPosition, Long> jobPositionCounts = new HashMap<>();
+    private final Map<Status, Long> statusCounts = new HashMap<>();
+    private final Map<JobPosition, Map<Status, Long>> crossTab = new HashMap<>();
+    private long total;
+
+    /**
+     * Adds {@code applicant} to the counts.
+     */
+    void add(Applicant applicant) {
+        total++;
+        jobPositionCounts.merge(applicant.getJobPosition(), 1L, Long::sum);
+        statusCounts.merge(applicant.getStatus(), 1L, Long::sum);
+        crossTab.computeIfAbsent(applicant.getJobPosition(), unused -> new HashMap<>())
+                .merge(applicant.getStatus(), 1L, Long::sum);
+    }
+
+    /**
+     * Removes {@code applicant} from the counts.
+     * {@code applicant} must have been added before.
+     */
+    void remove(Applicant applicant) {
+        total--;
+        decrement(jobPositionCounts, applicant.getJobPosition());
+        decrement(statusCounts, applicant.getStatus());
+        Map<Status, Long> row = crossTab.get(applicant.getJobPosition());
+        decrement(row, applicant.getStatus());
+        if (row.isEmpty()) {
+            crossTab.remove(applicant.getJobPosition());
+        }
+    }
+
+    /**
+     * Replaces the counts with those of {@code applicants}.
+     */
+    void setAll(Collection<Applicant> applicants) {
+        total = 0;
+        jobPositionCounts.clear();
+        statusCounts.clear();
+        crossTab.clear();
+        for (Applicant applicant : applicants) {
+            add(applicant);
+        }
+    }
+
+    /**
+     * Returns the summary of the applicants matching all of {@code predicates}, if it can be answered from the
+     * counts alone, i.e. if every predicate matches on job position or status. Otherwise, returns an empty
+     * {@code Optional}, and the matching applicants have to be counted instead.
+     */
+    Optional<ApplicantSummary> summarize(List<? extends IdentifierPredicate> predicates) {
+        if (predicates.isEmpty()) {
+            return Optional.of(new ApplicantSummary(total, new HashMap<>(jobPositionCounts),
+                    new HashMap<>(statusCounts)));
+        }
+
+        for (IdentifierPredicate predicate : predicates) {
+            if (!(predicate instanceof JobPositionMatchesPredicate) && !(predicate instanceof StatusMatchesPredicate)) {
+                return Optional.empty();
+            }
+        }
+
+        long matchingTotal = 0;
+        Map<JobPosition, Long> matchingJobPositionCounts = new HashMap<>();
+        Map<Status, Long> matchingStatusCounts = new HashMap<>();
+        for (Map.Entry<JobPosition, Map<Status, Long>> row : crossTab.entrySet()) {
+            JobPosition jobPosition = row.getKey();
+            if (!matchesAll(predicates, JobPositionMatchesPredicate.class, jobPosition.jobPosition)) {
+                continue;
+            }
+            for (Map.Entry<Status, Long> cell : row.getValue().entrySet()) {
+                Status status = cell.getKey();
+                if (!matchesAll(predicates, StatusMatchesPredicate.class, status.value)) {
+                    continue;
+                }
+                matchingTotal += cell.getValue();
+                matchingJobPositionCounts.merge(jobPosition, cell.getValue(), Long::sum);
+                matchingStatusCounts.merge(status, cell.getValue(), Long::sum);
+            }
+        }
+        return Optional.of(new ApplicantSummary(matchingTotal, matchingJobPositionCounts, matchingStatusCounts));
+    }
+
+    /**
+     * Returns true if {@code value} matches the keyword of every predicate of type {@code type} in
+     * {@code predicates}, ignoring case in the same way as the predicates themselves.
+     */
+    private static boolean matchesAll(List<? extends IdentifierPredicate> predicates,
+                                      Class<? extends IdentifierPredicate> type, String value) {
+        for (IdentifierPredicate predicate : predicates) {
+            if (type.isInstance(predicate) && !predicate.keyword.equalsIgnoreCase(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <K> void decrement(Map<K, Long> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+}
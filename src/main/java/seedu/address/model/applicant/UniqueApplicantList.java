@@ -1,6 +1,7 @@
 package seedu.address.model.applicant;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
@@ -9,12 +10,27 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.applicant.exceptions.DuplicatePersonException;
 import seedu.address.model.applicant.exceptions.PersonNotFoundException;
@@ -29,22 +45,49 @@ import seedu.address.model.applicant.exceptions.PersonNotFoundException;
  * However, the removal of an applicant uses {@code Applicant#equals(Object)} so as to ensure that
  * the applicant with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on email and phone, so they take constant time
+ * instead of scanning the whole list. Applicants to be replaced or removed are located through a map from
+ * {@code Applicant#getId()} to their position in the list, so they are found without comparing every element.
+ * Exact matches on email, phone, status and job position, and ranges of added times, can be looked up from
+ * indexes with {@link #lookUp}, and lists of predicates are planned against these indexes by {@link #compileQuery}.
+ * Counts per job position and status are kept up to date for {@link #summarize}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Applicant#isSamePerson(Applicant)
  */
 public class UniqueApplicantList implements Iterable<Applicant> {
 
+    private static final Logger logger = LogsCenter.getLogger(UniqueApplicantList.class);
+
     private final ObservableList<Applicant> internalList = FXCollections.observableArrayList();
     private final ObservableList<Applicant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, keyed by the fields compared in Applicant#isSamePerson(Applicant).
+    // Their keys do not depend on list positions, so sorting does not invalidate them.
+    private final Map<String, Applicant> emailIndex = new HashMap<>();
+    private final Map<String, Applicant> phoneIndex = new HashMap<>();
+
+    // Inverted indexes for exact, case-insensitive matches on status and job position.
+    // They are updated before internalList fires its change event, so listeners always see them in sync.
+    private final FieldIndex statusIndex = new FieldIndex(applicant -> applicant.getStatus().value);
+    private final FieldIndex jobPositionIndex = new FieldIndex(applicant -> applicant.getJobPosition().jobPosition);
+    private final AddedTimeIndex addedTimeIndex = new AddedTimeIndex();
+
+    // Live counts per job position and status, so that summaries need not scan the list
+    private final SummaryIndex summaryIndex = new SummaryIndex();
+
+    // Position of each applicant in internalList, keyed by surrogate id.
+    // Must be refreshed from the first changed position whenever applicants are inserted, removed or reordered.
+    private final Map<UUID, Integer> positions = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent applicant as the given argument.
      */
     public boolean contains(Applicant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return emailIndex.containsKey(toCheck.getEmail().value) || phoneIndex.containsKey(toCheck.getPhone().value);
     }
 
     /**
@@ -56,6 +99,9 @@ public class UniqueApplicantList implements Iterable<Applicant> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        assert !positions.containsKey(toAdd.getId()) : "Surrogate ids must be unique";
+        index(toAdd);
+        positions.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -67,21 +113,82 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public void setPerson(Applicant target, Applicant editedApplicant) {
         requireAllNonNull(target, editedApplicant);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        internalList.set(index, Applicant.NULL_APPLICANT);
-
-        if (contains(editedApplicant)) {
-            internalList.set(index, target);
+        Applicant replacedApplicant = internalList.get(index);
+        if (isDuplicateOfOtherPerson(editedApplicant, replacedApplicant)) {
             throw new DuplicatePersonException();
         }
+        assert editedApplicant.getId().equals(replacedApplicant.getId())
+                || !positions.containsKey(editedApplicant.getId()) : "Surrogate ids must be unique";
 
+        unindex(replacedApplicant);
+        index(editedApplicant);
+        positions.remove(replacedApplicant.getId(), index);
+        positions.put(editedApplicant.getId(), index);
         internalList.set(index, editedApplicant);
     }
 
+    /**
+     * Replaces each applicant in {@code targets} with the applicant at the same position in {@code editedApplicants}.
+     * All replacements are applied together, so the list fires a single change event however many are made.
+     * Every applicant in {@code targets} must exist in the list, and no applicant may be targeted twice.
+     * The applicant identities in the resulting list must be unique. If they are not, the list is left unchanged.
+     */
+    public void applyBatch(List<Applicant> targets, List<Applicant> editedApplicants) {
+        requireAllNonNull(targets, editedApplicants);
+        checkArgument(targets.size() == editedApplicants.size(),
+                "Every target applicant must have exactly one edited applicant");
+
+        int[] targetIndexes = new int[targets.size()];
+        boolean[] isTargeted = new boolean[internalList.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            requireNonNull(editedApplicants.get(i));
+            int index = indexOf(requireNonNull(targets.get(i)));
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            checkArgument(!isTargeted[index], "An applicant cannot be targeted more than once in a batch");
+            isTargeted[index] = true;
+            targetIndexes[i] = index;
+        }
+
+        // Release the identities of all replaced applicants first, so that edited applicants may swap identities
+        for (int index : targetIndexes) {
+            unindex(internalList.get(index));
+        }
+        for (int i = 0; i < editedApplicants.size(); i++) {
+            Applicant editedApplicant = editedApplicants.get(i);
+            if (contains(editedApplicant)) {
+                for (int j = 0; j < i; j++) {
+                    unindex(editedApplicants.get(j));
+                }
+                for (int index : targetIndexes) {
+                    index(internalList.get(index));
+                }
+                throw new DuplicatePersonException();
+            }
+            index(editedApplicant);
+        }
+
+        if (targetIndexes.length == 0) {
+            return;
+        }
+
+        Applicant[] updatedApplicants = internalList.toArray(new Applicant[0]);
+        for (int index : targetIndexes) {
+            positions.remove(updatedApplicants[index].getId(), index);
+        }
+        for (int i = 0; i < targetIndexes.length; i++) {
+            updatedApplicants[targetIndexes[i]] = editedApplicants.get(i);
+            positions.put(editedApplicants.get(i).getId(), targetIndexes[i]);
+        }
+        internalList.setAll(updatedApplicants);
+    }
+
     /**
      * Removes the equivalent applicant from the list and delete their profile picture in the save folder
      * The applicant must exist in the list.
@@ -89,12 +196,53 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     public void remove(Applicant toRemove) {
         requireNonNull(toRemove);
 
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+
         // Before removing from the list, delete the profile picture in the folder
         toRemove.deleteProfilePic();
 
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        Applicant removedApplicant = internalList.get(index);
+        unindex(removedApplicant);
+        positions.remove(removedApplicant.getId(), index);
+        internalList.remove(index);
+        refreshPositions(index);
+    }
+
+    /**
+     * Removes all applicants in {@code toRemove} from the list in a single pass and deletes their profile pictures
+     * in the background. The list fires a single change event however many applicants are removed.
+     * Every applicant in {@code toRemove} must exist in the list. If one does not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Applicant> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Set<Applicant> removedApplicants = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Applicant applicant : toRemove) {
+            int index = indexOf(requireNonNull(applicant));
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedApplicants.add(internalList.get(index));
+        }
+
+        if (removedApplicants.isEmpty()) {
+            return;
+        }
+
+        for (Applicant applicant : removedApplicants) {
+            applicant.deleteProfilePic();
+            unindex(applicant);
+            positions.remove(applicant.getId());
         }
+        int firstRemovedIndex = 0;
+        while (!removedApplicants.contains(internalList.get(firstRemovedIndex))) {
+            firstRemovedIndex++;
+        }
+        internalList.removeAll(removedApplicants);
+        refreshPositions(firstRemovedIndex);
     }
 
     /**
@@ -108,6 +256,16 @@ public class UniqueApplicantList implements Iterable<Applicant> {
 
     public void setPersons(UniqueApplicantList replacement) {
         requireNonNull(replacement);
+        emailIndex.clear();
+        phoneIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        phoneIndex.putAll(replacement.phoneIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        statusIndex.setAll(replacement.internalList);
+        jobPositionIndex.setAll(replacement.internalList);
+        addedTimeIndex.setAll(replacement.internalList);
+        summaryIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -116,12 +274,95 @@ public class UniqueApplicantList implements Iterable<Applicant> {
      * {@code applicants} must not contain duplicate applicants.
      */
     public void setPersons(List<Applicant> applicants) {
+        loadPersons(applicants);
+    }
+
+    /**
+     * Bulk-loads {@code applicants} into this list, replacing its contents.
+     * Uniqueness is checked in a single hashed pass and the list is filled with a single {@code setAll} change,
+     * so loading n applicants takes O(n) time.
+     * The list is left unchanged if {@code applicants} contains duplicate applicants.
+     * An applicant whose surrogate id is already used by an earlier applicant, e.g. one copied by hand in the data
+     * file, is loaded with a new id derived from the shared one, so that loading the same applicants again gives
+     * the same ids.
+     *
+     * @throws DuplicatePersonException if {@code applicants} contains duplicate applicants. The exception lists
+     *     every applicant that clashes with an earlier one, paired with the earlier applicant it clashes with.
+     */
+    public void loadPersons(Collection<Applicant> applicants) {
         requireAllNonNull(applicants);
-        if (!personsAreUnique(applicants)) {
-            throw new DuplicatePersonException();
+
+        Map<String, Applicant> loadedEmails = new HashMap<>();
+        Map<String, Applicant> loadedPhones = new HashMap<>();
+        List<Pair<Applicant, Applicant>> duplicatePairs = new ArrayList<>();
+        List<Applicant> loadedApplicants = new ArrayList<>(applicants.size());
+        Set<UUID> loadedIds = new HashSet<>();
+        for (Applicant original : applicants) {
+            Applicant applicant = withUnusedId(original, loadedIds);
+            loadedApplicants.add(applicant);
+            Applicant sameEmail = loadedEmails.putIfAbsent(applicant.getEmail().value, applicant);
+            Applicant samePhone = loadedPhones.putIfAbsent(applicant.getPhone().value, applicant);
+            if (sameEmail != null) {
+                duplicatePairs.add(new Pair<>(sameEmail, applicant));
+            }
+            if (samePhone != null && samePhone != sameEmail) {
+                duplicatePairs.add(new Pair<>(samePhone, applicant));
+            }
         }
 
-        internalList.setAll(applicants);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePairs);
+        }
+
+        emailIndex.clear();
+        phoneIndex.clear();
+        emailIndex.putAll(loadedEmails);
+        phoneIndex.putAll(loadedPhones);
+        statusIndex.setAll(loadedApplicants);
+        jobPositionIndex.setAll(loadedApplicants);
+        addedTimeIndex.setAll(loadedApplicants);
+        summaryIndex.setAll(loadedApplicants);
+        internalList.setAll(loadedApplicants);
+        positions.clear();
+        refreshPositions(0);
+    }
+
+    /**
+     * Returns the applicants in the list that match {@code predicate}, if {@code predicate} can be answered from
+     * an index of this list. Otherwise, returns an empty {@code Optional}, and {@code predicate} has to be tested
+     * against every applicant instead.
+     * The returned set is an unmodifiable, live view that stays in sync with the list as it changes.
+     */
+    public Optional<Set<Applicant>> lookUp(IdentifierPredicate predicate) {
+        requireNonNull(predicate);
+
+        if (predicate instanceof EmailMatchesKeywordPredicate) {
+            // emails are stored in lower case, so they are already in the normalized form used by FieldIndex
+            return Optional.of(new IdentityKeyView(emailIndex, FieldIndex.normalize(predicate.keyword)));
+        } else if (predicate instanceof PhoneMatchesKeywordPredicate) {
+            return Optional.of(new IdentityKeyView(phoneIndex, predicate.keyword));
+        } else if (predicate instanceof StatusMatchesPredicate) {
+            return Optional.of(statusIndex.get(predicate.keyword));
+        } else if (predicate instanceof JobPositionMatchesPredicate) {
+            return Optional.of(jobPositionIndex.get(predicate.keyword));
+        } else if (predicate instanceof BeforeDatePredicate beforeDatePredicate) {
+            return Optional.of(addedTimeIndex.before(beforeDatePredicate.getBeforeDate()));
+        } else if (predicate instanceof AfterDatePredicate afterDatePredicate) {
+            return Optional.of(addedTimeIndex.after(afterDatePredicate.getAfterDate()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the summary of the applicants in the list that match all of {@code predicates}.
+     * It is read from the live counts of this list when every predicate matches on job position or status,
+     * and counted from the matches of a compiled query otherwise.
+     */
+    public ApplicantSummary summarize(List<? extends IdentifierPredicate> predicates) {
+        requireAllNonNull(predicates);
+
+        return summaryIndex.summarize(predicates)
+                .orElseGet(() -> ApplicantSummary.of(compileQuery(predicates, true).execute()));
     }
 
     /**
@@ -165,7 +406,7 @@ public class UniqueApplicantList implements Iterable<Applicant> {
 
         } else if (prefix.equals(PREFIX_ADDED_TIME)) {
             // sort by added time, first added appear at the top
-            internalList.sort((p1, p2) -> p1.getAddedTime().compareTo(p2.getAddedTime()));
+            internalList.setAll(addedTimeIndex.sort(internalList, true));
 
         } else if (prefix.equals(PREFIX_JOB_POSITION)) {
             // sort by job position
@@ -181,6 +422,8 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             // sort by rating
             internalList.sort((p1, p2) -> p1.getRating().compareTo(p2.getRating(), true));
         } // ignore non-sorting prefix
+
+        refreshPositions(0);
     }
     /**
      * Similar to {@code sortPersonsByAscendingOrder} but sorts in descending order.
@@ -214,8 +457,8 @@ public class UniqueApplicantList implements Iterable<Applicant> {
                     .compare(p2.getEmail().value, p1.getEmail().value));
 
         } else if (prefix.equals(PREFIX_ADDED_TIME)) {
-            // sort by added time, first added appear at the top
-            internalList.sort((p1, p2) -> p2.getAddedTime().compareTo(p1.getAddedTime()));
+            // sort by added time, last added appear at the top
+            internalList.setAll(addedTimeIndex.sort(internalList, false));
 
         } else if (prefix.equals(PREFIX_JOB_POSITION)) {
             // sort by job position
@@ -231,6 +474,8 @@ public class UniqueApplicantList implements Iterable<Applicant> {
             // sort by rating
             internalList.sort((p1, p2) -> p1.getRating().compareTo(p2.getRating(), false));
         } // ignore non-sorting prefix
+
+        refreshPositions(0);
     }
 
     /**
@@ -242,7 +487,8 @@ public class UniqueApplicantList implements Iterable<Applicant> {
 
     @Override
     public Iterator<Applicant> iterator() {
-        return internalList.iterator();
+        // iterate over the unmodifiable view so that the indexes cannot be bypassed by Iterator#remove()
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -271,16 +517,126 @@ public class UniqueApplicantList implements Iterable<Applicant> {
     }
 
     /**
-     * Returns true if {@code applicants} contains only unique applicants.
+     * Compiles {@code predicates} into a query over this list, planned using the indexes of this list.
+     *
+     * @see ApplicantQuery#compile(List, boolean, UniqueApplicantList)
      */
-    private boolean personsAreUnique(List<Applicant> applicants) {
-        for (int i = 0; i < applicants.size() - 1; i++) {
-            for (int j = i + 1; j < applicants.size(); j++) {
-                if (applicants.get(i).isSamePerson(applicants.get(j))) {
-                    return false;
-                }
-            }
+    public ApplicantQuery compileQuery(List<? extends IdentifierPredicate> predicates, boolean isMatchAll) {
+        return ApplicantQuery.compile(predicates, isMatchAll, this);
+    }
+
+    /**
+     * Returns the position of the applicant equal to {@code target}, or -1 if there is none.
+     * The position map is tried first. A linear scan is only needed when {@code target} is not the applicant
+     * recorded under its id, e.g. an equal applicant that was built separately and so has a different id.
+     */
+    int indexOf(Applicant target) {
+        Integer position = positions.get(target.getId());
+        if (position != null && position < internalList.size() && internalList.get(position).equals(target)) {
+            return position;
+        }
+        return internalList.indexOf(target);
+    }
+
+    /**
+     * Returns the position of {@code applicant}, which must be in the list, in O(1) time.
+     * Unlike {@link #indexOf(Applicant)}, this trusts the position map, as the applicants in the list are the ones
+     * recorded under their ids.
+     */
+    int positionOf(Applicant applicant) {
+        Integer position = positions.get(applicant.getId());
+        assert position != null && internalList.get(position) == applicant;
+        return position;
+    }
+
+    /**
+     * Records the positions of all applicants from {@code fromIndex} to the end of the list.
+     */
+    private void refreshPositions(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns {@code applicant}, or a copy of it with a new id if its id is in {@code usedIds}, and adds the id of
+     * the returned applicant to {@code usedIds}.
+     */
+    private static Applicant withUnusedId(Applicant applicant, Set<UUID> usedIds) {
+        UUID id = applicant.getId();
+        for (int copy = 1; !usedIds.add(id); copy++) {
+            id = UUID.nameUUIDFromBytes((applicant.getId() + "/" + copy).getBytes(StandardCharsets.UTF_8));
+        }
+        if (id.equals(applicant.getId())) {
+            return applicant;
+        }
+        logger.warning("Applicant " + applicant.getName() + " shares the id " + applicant.getId()
+                + " with an earlier applicant, so it is loaded with the id " + id);
+        return applicant.withId(id);
+    }
+
+    /**
+     * Returns true if {@code toCheck} has the same identity as an applicant in the list other than {@code excluded}.
+     */
+    private boolean isDuplicateOfOtherPerson(Applicant toCheck, Applicant excluded) {
+        Applicant sameEmail = emailIndex.get(toCheck.getEmail().value);
+        Applicant samePhone = phoneIndex.get(toCheck.getPhone().value);
+        return (sameEmail != null && sameEmail != excluded) || (samePhone != null && samePhone != excluded);
+    }
+
+    /**
+     * Adds {@code applicant} to the identity and field indexes.
+     */
+    private void index(Applicant applicant) {
+        emailIndex.put(applicant.getEmail().value, applicant);
+        phoneIndex.put(applicant.getPhone().value, applicant);
+        statusIndex.add(applicant);
+        jobPositionIndex.add(applicant);
+        addedTimeIndex.add(applicant);
+        summaryIndex.add(applicant);
+    }
+
+    /**
+     * Removes {@code applicant} from the identity and field indexes.
+     */
+    private void unindex(Applicant applicant) {
+        emailIndex.remove(applicant.getEmail().value, applicant);
+        phoneIndex.remove(applicant.getPhone().value, applicant);
+        statusIndex.remove(applicant);
+        jobPositionIndex.remove(applicant);
+        addedTimeIndex.remove(applicant);
+        summaryIndex.remove(applicant);
+    }
+
+    /**
+     * A live view of the applicant stored under one key of an identity index, which has at most one element.
+     */
+    private static class IdentityKeyView extends AbstractSet<Applicant> {
+
+        private final Map<String, Applicant> identityIndex;
+        private final String key;
+
+        IdentityKeyView(Map<String, Applicant> identityIndex, String key) {
+            this.identityIndex = identityIndex;
+            this.key = key;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o != null && identityIndex.get(key) == o;
+        }
+
+        @Override
+        public Iterator<Applicant> iterator() {
+            Applicant applicant = identityIndex.get(key);
+            return applicant == null
+                    ? Collections.emptyIterator()
+                    : Collections.singleton(applicant).iterator();
+        }
+
+        @Override
+        public int size() {
+            return identityIndex.containsKey(key) ? 1 : 0;
         }
-        return true;
     }
 }
@@ -1,11 +1,43 @@
 package seedu.address.model.applicant.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.util.Pair;
+import seedu.address.model.applicant.Applicant;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private static final String MESSAGE_DUPLICATE_PERSONS = "Operation would result in duplicate persons";
+
+    private final List<Pair<Applicant, Applicant>> duplicatePairs;
+
+    /**
+     * Creates a {@code DuplicatePersonException} that does not report which applicants are duplicates.
+     */
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE_DUPLICATE_PERSONS);
+        duplicatePairs = List.of();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} reporting every pair of applicants in {@code duplicatePairs}
+     * that share the same identity.
+     */
+    public DuplicatePersonException(List<Pair<Applicant, Applicant>> duplicatePairs) {
+        super(MESSAGE_DUPLICATE_PERSONS + ": " + duplicatePairs.stream()
+                .map(pair -> pair.getKey().getName() + " and " + pair.getValue().getName())
+                .collect(Collectors.joining(", ")));
+        this.duplicatePairs = List.copyOf(duplicatePairs);
+    }
+
+    /**
+     * Returns the pairs of applicants that share the same identity, or an empty list if they were not recorded.
+     */
+    public List<Pair<Applicant, Applicant>> getDuplicatePairs() {
+        return duplicatePairs;
     }
 }
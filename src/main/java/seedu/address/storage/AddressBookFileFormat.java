@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The formats an address book data file can be stored in, told apart by the extension of the file.
+ */
+public enum AddressBookFileFormat {
+    /** A json file, see {@link JsonAddressBookStorage}. Used for any extension other than those below. */
+    JSON,
+    /** A json snapshot with a journal of later changes, see {@link JournaledAddressBookStorage}. */
+    JOURNALED,
+    /** A compact binary file, see {@link BinaryAddressBookStorage}. */
+    BINARY,
+    /** An embedded H2 database file, see {@link SqlAddressBookStorage}. */
+    SQL,
+    /** A memory-mapped file of fixed-width records, see {@link MappedAddressBookStorage}. */
+    MAPPED;
+
+    /**
+     * Returns the format of the data file {@code filePath}.
+     */
+    public static AddressBookFileFormat of(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(JournaledAddressBookStorage.FILE_EXTENSION)) {
+            return JOURNALED;
+        } else if (fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return BINARY;
+        } else if (fileName.endsWith(SqlAddressBookStorage.FILE_EXTENSION)) {
+            return SQL;
+        } else if (fileName.endsWith(MappedAddressBookStorage.FILE_EXTENSION)) {
+            return MAPPED;
+        } else {
+            return JSON;
+        }
+    }
+
+    /**
+     * Returns a storage for the data file {@code filePath} in this format.
+     *
+     * @param isPrettyPrinted whether json files are written with line breaks and indentation.
+     * @param durability how far every save is pushed to the storage device.
+     */
+    public AddressBookStorage createStorage(Path filePath, boolean isPrettyPrinted, SaveDurability durability) {
+        switch (this) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, durability);
+        case SQL:
+            return new SqlAddressBookStorage(filePath, durability);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath, durability);
+        case JOURNALED:
+            return new JournaledAddressBookStorage(filePath, isPrettyPrinted, durability);
+        default:
+            return new JsonAddressBookStorage(filePath, isPrettyPrinted, durability);
+        }
+    }
+
+    /**
+     * Converts the data file {@code sourcePath} into the data file {@code targetPath}, each in the format given by
+     * its extension, replacing any existing {@code targetPath}.
+     *
+     * @throws DataLoadingException if {@code sourcePath} does not exist or could not be loaded.
+     * @throws IOException if there was an error writing to {@code targetPath}.
+     */
+    public static void convert(Path sourcePath, Path targetPath) throws DataLoadingException, IOException {
+        AddressBookStorage source = of(sourcePath).createStorage(sourcePath, true, SaveDurability.FSYNC_FILE);
+        AddressBookStorage target = of(targetPath).createStorage(targetPath, true, SaveDurability.FSYNC_FILE);
+
+        ReadOnlyAddressBook addressBook = source.readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(sourcePath.toString())));
+        target.saveAddressBook(addressBook);
+    }
+}
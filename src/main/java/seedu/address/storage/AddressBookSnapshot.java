@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * A copy of the applicant list of an address book at one modification version.
+ * Later changes to the address book do not affect the snapshot, so it can be written on another thread.
+ * <p>
+ * The applicants are shared with the address book, so that storages can still tell unchanged applicants apart by
+ * identity. The only field of an applicant that is changed in place, its profile picture path, is copied instead, and
+ * storages read it from {@link #getProfilePicturePath(int)} rather than from the applicant.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Applicant> applicants;
+    private final String[] profilePicturePaths;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     * Copying the list takes O(n) time, and does not copy the applicants or rebuild any indexes.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        applicants = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        profilePicturePaths = new String[applicants.size()];
+        for (int i = 0; i < profilePicturePaths.length; i++) {
+            profilePicturePaths[i] = source.getProfilePicturePath(i);
+        }
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Applicant> getPersonList() {
+        return applicants;
+    }
+
+    @Override
+    public String getProfilePicturePath(int index) {
+        return profilePicturePaths[index];
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
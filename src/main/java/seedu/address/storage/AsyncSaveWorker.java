@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes address book snapshots to storage on a dedicated writer thread.
+ * <p>
+ * Saves requested in a burst are coalesced: only the latest snapshot for each file is written. A requested save is
+ * written at most {@link #COALESCING_DELAY_MILLIS} after it was requested, plus the time taken by a write that is
+ * already in progress. Writes that fail, whether with an {@code IOException} or a {@code RuntimeException} from the
+ * storage, are reported to the failure handler on the writer thread. A {@code RuntimeException} is reported wrapped in
+ * an {@code IOException}.
+ */
+class AsyncSaveWorker {
+
+    static final long COALESCING_DELAY_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncSaveWorker.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final BiConsumer<Path, IOException> failureHandler;
+    private final ScheduledThreadPoolExecutor writer;
+
+    // The latest snapshot waiting to be written to each file, in the order the files were first requested
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+
+    /**
+     * Creates a worker that writes through {@code addressBookStorage}, and passes the file and cause of every
+     * failed write to {@code failureHandler}.
+     */
+    AsyncSaveWorker(AddressBookStorage addressBookStorage, BiConsumer<Path, IOException> failureHandler) {
+        this.addressBookStorage = addressBookStorage;
+        this.failureHandler = failureHandler;
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            // Pending saves must not keep the application alive; call flush() before exiting to finish them
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.setKeepAliveTime(1, TimeUnit.SECONDS);
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues {@code snapshot} to be written to {@code filePath} and returns immediately.
+     * It replaces any snapshot for {@code filePath} that has not been written yet.
+     */
+    synchronized void submit(ReadOnlyAddressBook snapshot, Path filePath) {
+        boolean isWriteScheduled = !pendingSaves.isEmpty();
+        pendingSaves.put(filePath, snapshot);
+        if (!isWriteScheduled) {
+            writer.schedule(this::writePendingSaves, COALESCING_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all pending snapshots right away, and blocks until they are written.
+     *
+     * @throws IOException the first failure among these writes, after every failure has been reported to the
+     *     failure handler.
+     */
+    void flush() throws IOException {
+        IOException failure;
+        try {
+            failure = writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes all pending snapshots, reporting every failed write to the failure handler.
+     * Returns the first failure, or null if every write succeeded.
+     */
+    private IOException writePendingSaves() {
+        Map<Path, ReadOnlyAddressBook> saves;
+        synchronized (this) {
+            saves = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+        }
+
+        IOException firstFailure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> save : saves.entrySet()) {
+            logger.fine("Writing data file in the background: " + save.getKey());
+            try {
+                addressBookStorage.saveAddressBook(save.getValue(), save.getKey());
+            } catch (IOException | RuntimeException e) {
+                // a RuntimeException would otherwise be kept by the executor, and never be reported
+                logger.warning("Error writing data file " + save.getKey() + ": " + e);
+                IOException failure = e instanceof IOException ioe ? ioe : new IOException(e);
+                failureHandler.accept(save.getKey(), failure);
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                }
+            }
+        }
+        return firstFailure;
+    }
+}
@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Address;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Email;
+import seedu.address.model.applicant.JobPosition;
+import seedu.address.model.applicant.Name;
+import seedu.address.model.applicant.Phone;
+import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header of {@link #MAGIC} and the format version. Job positions, statuses, ratings and tags
+ * are stored once each in a string dictionary, and referred to by their index in it, so each distinct value is
+ * decoded and validated only once per load. Lengths and indexes are varints, and added times are epoch millis in
+ * UTC. The file ends with the CRC32 of everything before it, so that a damaged file is rejected as a whole.
+ * <p>
+ * The file holds the same data as the file of {@link JsonAddressBookStorage}, so the two convert into each other
+ * without loss, see {@link AddressBookFileFormat#convert}. It is backed up on save in the same way as that file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a binary address book";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported";
+    static final String MESSAGE_CORRUPTED_FILE = "Data file is corrupted";
+
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final SaveDurability durability;
+
+    // Data files that could not be read. Their backups may hold the only good copy of the data, so the next save
+    // to each of them does not replace its backup with the unreadable content
+    private final Set<Path> unreadableFilePaths = ConcurrentHashMap.newKeySet();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, SaveDurability.FSYNC_FILE);
+    }
+
+    /**
+     * Creates a storage for the binary file {@code filePath}, pushed to the storage device as far as
+     * {@code durability} requires on every save.
+     */
+    public BinaryAddressBookStorage(Path filePath, SaveDurability durability) {
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            // the whole file is read in one go, as it is compact; it is not memory-mapped, as a mapping would keep
+            // the file from being replaced on some platforms until it is garbage collected
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(new Decoder(buffer).decode());
+            unreadableFilePaths.remove(filePath);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, tempFile -> encode(addressBook, tempFile), durability,
+                !unreadableFilePaths.contains(filePath));
+        unreadableFilePaths.remove(filePath);
+    }
+
+    /**
+     * Writes the applicants of {@code addressBook} to {@code file} in the binary format.
+     */
+    private static void encode(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        List<Applicant> applicants = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Applicant applicant : applicants) {
+            dictionary.putIfAbsent(applicant.getJobPosition().jobPosition, dictionary.size());
+            dictionary.putIfAbsent(applicant.getStatus().value, dictionary.size());
+            dictionary.putIfAbsent(applicant.getRating().value, dictionary.size());
+            for (Tag tag : applicant.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        try (OutputStream fileStream = Files.newOutputStream(file)) {
+            CheckedOutputStream checkedStream = new CheckedOutputStream(fileStream, new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checkedStream));
+
+            out.write(MAGIC);
+            writeVarLong(out, FORMAT_VERSION);
+            writeVarLong(out, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                writeString(out, value);
+            }
+
+            writeVarLong(out, applicants.size());
+            for (int i = 0; i < applicants.size(); i++) {
+                Applicant applicant = applicants.get(i);
+                out.writeLong(applicant.getId().getMostSignificantBits());
+                out.writeLong(applicant.getId().getLeastSignificantBits());
+                writeString(out, applicant.getName().fullName);
+                writeString(out, applicant.getPhone().value);
+                writeString(out, applicant.getEmail().value);
+                writeString(out, applicant.getAddress().value);
+                writeString(out, addressBook.getProfilePicturePath(i));
+                writeVarLong(out, dictionary.get(applicant.getJobPosition().jobPosition));
+                writeVarLong(out, dictionary.get(applicant.getStatus().value));
+                writeVarLong(out, dictionary.get(applicant.getRating().value));
+
+                Instant addedTime = applicant.getAddedTime().toInstant(ZoneOffset.UTC);
+                writeVarLong(out, zigZag(addedTime.toEpochMilli()));
+                writeVarLong(out, addedTime.getNano() % NANOS_PER_MILLI);
+
+                writeVarLong(out, applicant.getTags().size());
+                for (Tag tag : applicant.getTags()) {
+                    writeVarLong(out, dictionary.get(tag.tagName));
+                }
+            }
+            out.flush();
+
+            new DataOutputStream(fileStream).writeInt((int) checkedStream.getChecksum().getValue());
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads the applicants in a binary file.
+     * Model objects for dictionary entries are created on first use, and shared by every applicant using them.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private byte[] stringBytes = new byte[64];
+
+        private String[] dictionary;
+        private JobPosition[] jobPositions;
+        private Status[] statuses;
+        private Rating[] ratings;
+        private Tag[] tags;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        List<Applicant> decode() throws IOException, IllegalValueException {
+            checkHeaderAndChecksum();
+            try {
+                dictionary = new String[readCount()];
+                jobPositions = new JobPosition[dictionary.length];
+                statuses = new Status[dictionary.length];
+                ratings = new Rating[dictionary.length];
+                tags = new Tag[dictionary.length];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = readString();
+                }
+
+                int applicantCount = readCount();
+                List<Applicant> applicants = new ArrayList<>(applicantCount);
+                for (int i = 0; i < applicantCount; i++) {
+                    applicants.add(readApplicant());
+                }
+                if (buffer.remaining() != CHECKSUM_LENGTH) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+                return applicants;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+
+        private void checkHeaderAndChecksum() throws IOException {
+            if (buffer.remaining() < MAGIC.length + CHECKSUM_LENGTH) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            for (byte expected : MAGIC) {
+                if (buffer.get() != expected) {
+                    throw new IOException(MESSAGE_NOT_BINARY_FILE);
+                }
+            }
+
+            int checksumPosition = buffer.limit() - CHECKSUM_LENGTH;
+            CRC32 checksum = new CRC32();
+            ByteBuffer content = buffer.duplicate();
+            content.position(0).limit(checksumPosition);
+            checksum.update(content);
+            if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            long version = readVarLong();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+        }
+
+        private Applicant readApplicant() throws IOException {
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            String profilePicturePath = readString();
+            JobPosition jobPosition = readDictionaryValue(jobPositions, JobPosition::new);
+            Status status = readDictionaryValue(statuses, Status::new);
+            Rating rating = readDictionaryValue(ratings, Rating::new);
+
+            long epochMilli = unZigZag(readVarLong());
+            long nanoOfMilli = readVarLong();
+            LocalDateTime addedTime = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(epochMilli).plusNanos(nanoOfMilli), ZoneOffset.UTC);
+
+            int tagCount = readCount();
+            Set<Tag> applicantTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                applicantTags.add(readDictionaryValue(tags, Tag::new));
+            }
+
+            return new Applicant(id, name, phone, email, jobPosition, status, address, addedTime, applicantTags,
+                    rating, profilePicturePath);
+        }
+
+        /**
+         * Returns the model object in {@code values} for the dictionary entry at the next index, creating it with
+         * {@code factory} if it has not been used yet. Each kind of value has its own {@code values}, as the same
+         * string may be, say, both a status and a tag.
+         */
+        private <T> T readDictionaryValue(T[] values, Function<String, T> factory) throws IOException {
+            long entry = readVarLong();
+            if (entry < 0 || entry >= values.length) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            int index = (int) entry;
+            if (values[index] == null) {
+                values[index] = factory.apply(dictionary[index]);
+            }
+            return values[index];
+        }
+
+        private String readString() throws IOException {
+            int length = readCount();
+            if (length > stringBytes.length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private int readCount() throws IOException {
+            long count = readVarLong();
+            if (count < 0 || count > Integer.MAX_VALUE || count > buffer.remaining()) {
+                // every counted item takes at least one byte, so a larger count can only come from corruption,
+                // as can a count with the sign bit set
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            return (int) count;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+}
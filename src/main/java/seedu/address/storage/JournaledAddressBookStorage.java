@@ -0,0 +1,406 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot with an append-only journal of later changes.
+ * <p>
+ * The snapshot is in the same format as the file of {@link JsonAddressBookStorage}, but is told apart by its
+ * {@link #FILE_EXTENSION}. Saving the data file of this storage only appends records for the applicants added,
+ * replaced or removed since the last save to the journal, next to the snapshot, followed by a commit record, and
+ * syncs the journal once per save. Once the journal holds as many records as there are applicants, it is folded into
+ * a fresh snapshot, which replaces the old one atomically. The old snapshot is kept as a backup together with its
+ * journal. Reading replays the journal on top of the snapshot, one save at a time, so that the records of a save
+ * torn by a crash are ignored as a whole.
+ * <p>
+ * The journal starts with the checksum of the snapshot it applies to. A journal that does not belong to the snapshot
+ * is never replayed or overwritten: it is moved next to the backup if it belongs to the backup, as it does after a
+ * crash while a fresh snapshot was written, and is set aside under a new name otherwise.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".journaled.json";
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String REJECTED_JOURNAL_FILE_SUFFIX = ".rejected-";
+
+    static final int MIN_RECORDS_BEFORE_COMPACTION = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final SaveDurability durability;
+
+    // Data files that could not be read. Their backups may hold the only good copy of the data, so the next save
+    // to each of them does not replace its backup with the unreadable content
+    private final Set<Path> unreadableFilePaths = ConcurrentHashMap.newKeySet();
+
+    // The applicants stored in filePath as last read or saved, with their positions and profile picture paths
+    // at that time, or null if the next save must write a fresh snapshot
+    private List<Applicant> persistedApplicants;
+    private Map<UUID, Integer> persistedPositions;
+    private List<String> persistedProfilePicturePaths;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, true, SaveDurability.FSYNC_FILE);
+    }
+
+    /**
+     * Creates a storage for the snapshot {@code filePath}, written on a single line if {@code isPrettyPrinted}
+     * is false, and pushed to the storage device as far as {@code durability} requires on every save.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, SaveDurability durability) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot in {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        AddressBook addressBook;
+        int replayedRecordCount;
+        try {
+            List<Applicant> applicants = JsonAddressBookReader.readApplicants(filePath);
+            replayedRecordCount = replayJournal(filePath, applicants);
+            addressBook = JsonSerializableAddressBook.toAddressBook(applicants);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(e);
+        }
+        unreadableFilePaths.remove(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            recordPersisted(addressBook);
+            if (replayedRecordCount < 0) {
+                // the journal cannot be appended to, so it is replaced by a fresh snapshot on the next save
+                persistedApplicants = null;
+            }
+            journalRecordCount = Math.max(replayedRecordCount, 0);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is journaled. Other files are saved as a fresh snapshot every time.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonJournalRecord> records = persistedApplicants == null
+                ? null
+                : getChangeRecords(addressBook);
+        try {
+            if (records == null || !Files.exists(getJournalFilePath(filePath))
+                    || journalRecordCount + records.size() >= Math.max(MIN_RECORDS_BEFORE_COMPACTION,
+                            persistedApplicants.size())) {
+                writeSnapshot(addressBook, filePath);
+                journalRecordCount = 0;
+            } else if (!records.isEmpty()) {
+                appendToJournal(records, filePath);
+                journalRecordCount += records.size();
+            }
+        } catch (IOException e) {
+            // the snapshot and journal may no longer match the persisted applicants, e.g. if the journal could not
+            // be truncated after a failed append, so the next save writes a fresh snapshot and journal
+            persistedApplicants = null;
+            throw e;
+        }
+        recordPersisted(addressBook);
+    }
+
+    /**
+     * Returns the journal records that turn the persisted applicants into the applicants of {@code addressBook},
+     * or null if they cannot be described by records, because applicants that were kept have been reordered.
+     * Removals come first, from the last position, then replacements, then additions at the end of the list.
+     */
+    private List<JsonJournalRecord> getChangeRecords(ReadOnlyAddressBook addressBook) {
+        List<Applicant> applicants = addressBook.getPersonList();
+        boolean[] isKept = new boolean[persistedApplicants.size()];
+        List<Integer> replacedPositions = new ArrayList<>();
+        List<JsonAdaptedApplicant> replacements = new ArrayList<>();
+        List<JsonAdaptedApplicant> additions = new ArrayList<>();
+        int lastKeptPosition = -1;
+        for (int i = 0; i < applicants.size(); i++) {
+            Applicant applicant = applicants.get(i);
+            String profilePicturePath = addressBook.getProfilePicturePath(i);
+            Integer position = persistedPositions.get(applicant.getId());
+            if (position == null || isKept[position]) {
+                additions.add(new JsonAdaptedApplicant(applicant, profilePicturePath));
+                continue;
+            }
+            if (!additions.isEmpty() || position < lastKeptPosition) {
+                return null;
+            }
+            isKept[position] = true;
+            lastKeptPosition = position;
+            // profile picture paths are changed in place, so they are compared separately
+            if (persistedApplicants.get(position) != applicant
+                    || !persistedProfilePicturePaths.get(position).equals(profilePicturePath)) {
+                replacedPositions.add(position);
+                replacements.add(new JsonAdaptedApplicant(applicant, profilePicturePath));
+            }
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        int[] removedBefore = new int[isKept.length + 1];
+        for (int position = 0; position < isKept.length; position++) {
+            removedBefore[position + 1] = removedBefore[position] + (isKept[position] ? 0 : 1);
+        }
+        for (int position = isKept.length - 1; position >= 0; position--) {
+            if (!isKept[position]) {
+                records.add(JsonJournalRecord.remove(position));
+            }
+        }
+        for (int i = 0; i < replacements.size(); i++) {
+            int position = replacedPositions.get(i);
+            records.add(JsonJournalRecord.set(position - removedBefore[position], replacements.get(i)));
+        }
+        for (JsonAdaptedApplicant addition : additions) {
+            records.add(JsonJournalRecord.add(addition));
+        }
+        return records;
+    }
+
+    /**
+     * Applies the journal of the snapshot in {@code snapshotPath} to {@code applicants}, the applicants read from
+     * the snapshot. Returns the number of records applied, or -1 if the journal has to be replaced before more
+     * records are appended to it, because it does not belong to the snapshot or ends in the records of a torn save.
+     */
+    private static int replayJournal(Path snapshotPath, List<Applicant> applicants)
+            throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        String journal = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8);
+        int headerEnd = journal.indexOf('\n');
+        if (headerEnd == -1 || !isHeaderOf(journal.substring(0, headerEnd), checksumOf(snapshotPath))) {
+            setAsideJournal(snapshotPath);
+            return -1;
+        }
+
+        int recordCount = 0;
+        List<JsonJournalRecord> uncommittedRecords = new ArrayList<>();
+        int recordStart = headerEnd + 1;
+        int recordEnd = journal.indexOf('\n', recordStart);
+        while (recordEnd != -1) {
+            JsonJournalRecord record = JsonUtil.fromJsonString(
+                    journal.substring(recordStart, recordEnd), JsonJournalRecord.class);
+            if (record.isCommit()) {
+                for (JsonJournalRecord uncommittedRecord : uncommittedRecords) {
+                    uncommittedRecord.applyTo(applicants);
+                }
+                recordCount += uncommittedRecords.size();
+                uncommittedRecords.clear();
+            } else {
+                uncommittedRecords.add(record);
+            }
+            recordStart = recordEnd + 1;
+            recordEnd = journal.indexOf('\n', recordStart);
+        }
+
+        if (!uncommittedRecords.isEmpty() || recordStart < journal.length()) {
+            logger.warning("Ignoring the uncommitted records at the end of journal " + journalPath);
+            return -1;
+        }
+        return recordCount;
+    }
+
+    private static boolean isHeaderOf(String line, long snapshotChecksum) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalRecord.class).isHeaderOf(snapshotChecksum);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Moves the journal of the snapshot in {@code snapshotPath}, which does not belong to that snapshot, out of the
+     * way without losing its records. A journal that belongs to the backup of the snapshot is moved next to the
+     * backup, so that it is replayed if the backup is read. Any other journal is renamed for the user to inspect.
+     */
+    private static void setAsideJournal(Path snapshotPath) throws IOException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        Path backupPath = FileUtil.getBackupFilePath(snapshotPath);
+        String header = Files.readAllLines(journalPath, StandardCharsets.UTF_8).stream().findFirst().orElse("");
+        if (Files.exists(backupPath) && isHeaderOf(header, checksumOf(backupPath))) {
+            Files.move(journalPath, getJournalFilePath(backupPath), StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Moved journal " + journalPath + " of the backup " + backupPath + " next to the backup");
+            return;
+        }
+
+        Path rejectedPath = journalPath.resolveSibling(
+                journalPath.getFileName() + REJECTED_JOURNAL_FILE_SUFFIX + System.currentTimeMillis());
+        Files.move(journalPath, rejectedPath);
+        logger.warning("Journal " + journalPath + " does not belong to " + snapshotPath
+                + ", so its changes were not applied. It was moved to " + rejectedPath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh snapshot to {@code snapshotPath}, and starts a new, empty journal for it.
+     * If the old snapshot is kept as the backup, its journal is kept next to the backup.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath) throws IOException {
+        boolean isBackedUp = !unreadableFilePaths.contains(snapshotPath) && Files.exists(snapshotPath);
+        JsonAddressBookWriter.writeAddressBook(addressBook, snapshotPath, isPrettyPrinted, durability,
+                !unreadableFilePaths.contains(snapshotPath));
+        unreadableFilePaths.remove(snapshotPath);
+
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (isBackedUp) {
+            Path backupJournalPath = getJournalFilePath(FileUtil.getBackupFilePath(snapshotPath));
+            if (Files.exists(journalPath)) {
+                Files.move(journalPath, backupJournalPath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(backupJournalPath);
+            }
+        }
+
+        String header = JsonUtil.toCompactJsonString(JsonJournalRecord.header(checksumOf(snapshotPath))) + "\n";
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(journal, header);
+        }
+    }
+
+    /**
+     * Appends {@code records} and a commit record to the journal of the snapshot in {@code snapshotPath}, syncing it
+     * once for all of them.
+     * If the append fails, the journal is truncated back to its previous size, so that it does not end in a torn
+     * record that later records would be appended to.
+     */
+    private void appendToJournal(List<JsonJournalRecord> records, Path snapshotPath) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        lines.append(JsonUtil.toCompactJsonString(JsonJournalRecord.commit())).append('\n');
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(snapshotPath), StandardOpenOption.WRITE)) {
+            long journalSize = journal.size();
+            journal.position(journalSize);
+            try {
+                write(journal, lines.toString());
+            } catch (IOException e) {
+                try {
+                    journal.truncate(journalSize);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code content} to {@code channel}, and syncs it to the storage device unless no durability is required.
+     * Package-private so that tests can make writes fail partway.
+     */
+    void write(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (durability != SaveDurability.NONE) {
+            channel.force(false);
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int length = in.read(buffer);
+            while (length != -1) {
+                checksum.update(buffer, 0, length);
+                length = in.read(buffer);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private void recordPersisted(ReadOnlyAddressBook addressBook) {
+        List<Applicant> applicants = addressBook.getPersonList();
+        persistedApplicants = new ArrayList<>(applicants);
+        persistedPositions = new HashMap<>();
+        persistedProfilePicturePaths = new ArrayList<>(applicants.size());
+        for (int i = 0; i < applicants.size(); i++) {
+            persistedPositions.put(applicants.get(i).getId(), i);
+            persistedProfilePicturePaths.add(addressBook.getProfilePicturePath(i));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -27,7 +28,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedApplicant {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Applicant's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Applicant's id field is not a valid UUID!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -41,15 +44,18 @@ class JsonAdaptedApplicant {
 
     /**
      * Constructs a {@code JsonAdaptedApplicant} with the given applicant details.
+     * {@code id} may be null for data saved before applicants had ids, in which case a new id is generated.
      */
     @JsonCreator
-    public JsonAdaptedApplicant(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedApplicant(@JsonProperty("id") String id,
+                                @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                                 @JsonProperty("email") String email, @JsonProperty("jobPosition") String jobPosition,
                                 @JsonProperty("status") String status, @JsonProperty("address") String address,
                                 @JsonProperty("addedTime") LocalDateTime addedTime,
                                 @JsonProperty("tags") List<JsonAdaptedTag> tags,
                                 @JsonProperty("rating") String rating,
                                 @JsonProperty("profilePicturePath") String profilePicturePath) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,10 +70,28 @@ class JsonAdaptedApplicant {
         this.profilePicturePath = profilePicturePath;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedApplicant} with the given applicant details and no id.
+     */
+    public JsonAdaptedApplicant(String name, String phone, String email, String jobPosition, String status,
+                                String address, LocalDateTime addedTime, List<JsonAdaptedTag> tags,
+                                String rating, String profilePicturePath) {
+        this(null, name, phone, email, jobPosition, status, address, addedTime, tags, rating, profilePicturePath);
+    }
+
     /**
      * Converts a given {@code Applicant} into this class for Jackson use.
      */
     public JsonAdaptedApplicant(Applicant source) {
+        this(source, source.getProfilePicturePath());
+    }
+
+    /**
+     * Converts a given {@code Applicant} into this class for Jackson use, with {@code profilePicturePath} as its
+     * profile picture path, e.g. the path captured in a snapshot of the address book.
+     */
+    public JsonAdaptedApplicant(Applicant source, String profilePicturePath) {
+        id = source.getId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -76,7 +100,7 @@ class JsonAdaptedApplicant {
         address = source.getAddress().value;
         addedTime = source.getAddedTime();
         rating = source.getRating().value;
-        profilePicturePath = source.getProfilePicturePath();
+        this.profilePicturePath = profilePicturePath;
 
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -163,8 +187,20 @@ class JsonAdaptedApplicant {
             throw new IllegalValueException(Rating.MESSAGE_CONSTRAINTS);
         }
         final Rating modelRating = new Rating(rating);
-        return new Applicant(modelName, modelPhone, modelEmail, modelJobPosition, modelStatus, modelAddress,
-                modelAddedTime, modelTags, modelRating, modelProfilePicturePath);
+
+        final UUID modelId;
+        if (id == null) {
+            modelId = UUID.randomUUID();
+        } else {
+            try {
+                modelId = UUID.fromString(id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(INVALID_ID_MESSAGE);
+            }
+        }
+
+        return new Applicant(modelId, modelName, modelPhone, modelEmail, modelJobPosition, modelStatus,
+                modelAddress, modelAddedTime, modelTags, modelRating, modelProfilePicturePath);
     }
 
 }
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Reads the applicants in an address book json file one at a time, as the file is parsed.
+ * <p>
+ * Unlike reading the file into a {@link JsonSerializableAddressBook}, the file is never held in memory as a whole,
+ * and the {@link JsonAdaptedApplicant}s are converted into {@link Applicant}s in chunks, in parallel with parsing the
+ * rest of the file, so each can be discarded soon after it is read. Only the resulting applicants are kept.
+ */
+class JsonAddressBookReader {
+
+    static final String PERSONS_FIELD = "persons";
+
+    /**
+     * Returns the applicants in the address book json file {@code filePath}, in the order they appear in the file.
+     *
+     * @throws IOException if the file could not be read, or is not a valid address book json file.
+     * @throws IllegalValueException if there were any data constraints violated in an applicant.
+     */
+    static List<Applicant> readApplicants(Path filePath) throws IOException, IllegalValueException {
+        ParallelApplicantConverter converter = new ParallelApplicantConverter();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    // other fields are ignored, in the same way as unknown properties elsewhere
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    converter.add(JsonUtil.readValue(parser, JsonAdaptedApplicant.class));
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return converter.finish();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -3,28 +3,48 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Every save keeps the previous content of the file in its backup file, except the first save to a file that could
+ * not be read, whose backup is left as it is.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final SaveDurability durability;
+
+    // Data files that could not be read. Their backups may hold the only good copy of the data, so the next save
+    // to each of them does not replace its backup with the unreadable content
+    private final Set<Path> unreadableFilePaths = ConcurrentHashMap.newKeySet();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, SaveDurability.FSYNC_FILE);
+    }
+
+    /**
+     * Creates a storage for the json file {@code filePath}, written on a single line if {@code isPrettyPrinted}
+     * is false, and pushed to the storage device as far as {@code durability} requires on every save.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, SaveDurability durability) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.durability = durability;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,16 +65,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(
+                    JsonAddressBookReader.readApplicants(filePath));
+            unreadableFilePaths.remove(filePath);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            unreadableFilePaths.add(filePath);
             throw new DataLoadingException(ive);
         }
     }
@@ -73,8 +100,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.writeAddressBook(addressBook, filePath, isPrettyPrinted, durability,
+                !unreadableFilePaths.contains(filePath));
+        unreadableFilePaths.remove(filePath);
     }
 
 }
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookReader.PERSONS_FIELD;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Writes the applicants of an address book to a json file one at a time, as the file is generated.
+ * <p>
+ * Unlike writing a {@link JsonSerializableAddressBook}, neither the whole content of the file nor a
+ * {@link JsonAdaptedApplicant} for every applicant is held in memory, so saving takes memory proportional to the
+ * largest applicant rather than to the file. The file is in the same format, and can be read by either.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes the applicants of {@code addressBook} to the json file {@code filePath}, replacing its content
+     * atomically.
+     *
+     * @param isPrettyPrinted whether the file is written with line breaks and indentation.
+     * @param durability how far the file is pushed to the storage device before returning.
+     * @param isBackedUp whether the old content of the file is kept in its backup file.
+     * @throws IOException if there was an error writing to the file. The file is then left unchanged.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted,
+                                 SaveDurability durability, boolean isBackedUp) throws IOException {
+        FileUtil.writeAtomically(filePath, tempFile -> write(addressBook, tempFile, isPrettyPrinted),
+                durability, isBackedUp);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            List<Applicant> applicants = addressBook.getPersonList();
+            for (int i = 0; i < applicants.size(); i++) {
+                JsonUtil.writeValue(generator,
+                        new JsonAdaptedApplicant(applicants.get(i), addressBook.getProfilePicturePath(i)));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
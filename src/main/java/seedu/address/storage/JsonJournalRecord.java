@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Jackson-friendly version of one record of an address book journal.
+ * <p>
+ * A journal starts with a header record holding the checksum of the snapshot it applies to. Every other record
+ * adds an applicant at the end of the list, or replaces or removes the applicant at a position in the list, except
+ * for the commit record that ends the records of each save.
+ */
+class JsonJournalRecord {
+
+    static final String HEADER = "header";
+    static final String ADD = "add";
+    static final String SET = "set";
+    static final String REMOVE = "remove";
+    static final String COMMIT = "commit";
+
+    static final String INVALID_RECORD_MESSAGE_FORMAT = "Journal record is invalid: %s";
+
+    private final String op;
+    private final Integer position;
+    private final JsonAdaptedApplicant applicant;
+    private final Long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("position") Integer position,
+                             @JsonProperty("applicant") JsonAdaptedApplicant applicant,
+                             @JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+        this.op = op;
+        this.position = position;
+        this.applicant = applicant;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    static JsonJournalRecord header(long snapshotChecksum) {
+        return new JsonJournalRecord(HEADER, null, null, snapshotChecksum);
+    }
+
+    static JsonJournalRecord add(JsonAdaptedApplicant applicant) {
+        return new JsonJournalRecord(ADD, null, applicant, null);
+    }
+
+    static JsonJournalRecord set(int position, JsonAdaptedApplicant applicant) {
+        return new JsonJournalRecord(SET, position, applicant, null);
+    }
+
+    static JsonJournalRecord remove(int position) {
+        return new JsonJournalRecord(REMOVE, position, null, null);
+    }
+
+    static JsonJournalRecord commit() {
+        return new JsonJournalRecord(COMMIT, null, null, null);
+    }
+
+    /**
+     * Returns true if this is a header record for the snapshot with the checksum {@code snapshotChecksum}.
+     */
+    boolean isHeaderOf(long snapshotChecksum) {
+        return HEADER.equals(op) && this.snapshotChecksum != null && this.snapshotChecksum == snapshotChecksum;
+    }
+
+    boolean isCommit() {
+        return COMMIT.equals(op);
+    }
+
+    /**
+     * Applies this record to {@code applicants}.
+     *
+     * @throws IllegalValueException if this is not a valid add, set or remove record for {@code applicants}, or
+     *     there were any data constraints violated in the applicant of this record.
+     */
+    void applyTo(List<Applicant> applicants) throws IllegalValueException {
+        boolean hasValidPosition = position != null && position >= 0 && position < applicants.size();
+        if (ADD.equals(op) && applicant != null) {
+            applicants.add(applicant.toModelType());
+        } else if (SET.equals(op) && applicant != null && hasValidPosition) {
+            applicants.set(position, applicant.toModelType());
+        } else if (REMOVE.equals(op) && hasValidPosition) {
+            applicants.remove((int) position);
+        } else {
+            throw new IllegalValueException(String.format(INVALID_RECORD_MESSAGE_FORMAT, op));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +11,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -37,7 +37,10 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedApplicant::new).collect(Collectors.toList()));
+        List<Applicant> applicants = source.getPersonList();
+        for (int i = 0; i < applicants.size(); i++) {
+            persons.add(new JsonAdaptedApplicant(applicants.get(i), source.getProfilePicturePath(i)));
+        }
     }
 
     /**
@@ -46,13 +49,21 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toAddressBook(ParallelApplicantConverter.convertAll(persons));
+    }
+
+    /**
+     * Bulk-loads {@code applicants} into a new {@code AddressBook}.
+     * Duplicates are detected after all applicants are converted, in a single hashed pass.
+     *
+     * @throws IllegalValueException if {@code applicants} contains duplicate applicants, naming every duplicate pair.
+     */
+    static AddressBook toAddressBook(List<Applicant> applicants) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedApplicant jsonAdaptedApplicant : persons) {
-            Applicant applicant = jsonAdaptedApplicant.toModelType();
-            if (addressBook.hasPerson(applicant)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(applicant);
+        try {
+            addressBook.loadPersons(applicants);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + " " + dpe.getMessage(), dpe);
         }
         return addressBook;
     }
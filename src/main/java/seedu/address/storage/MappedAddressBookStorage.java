@@ -0,0 +1,1228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * A class to access AddressBook data stored in a memory-mapped file of fixed-width applicant records, whose strings
+ * are kept in a separate string heap file.
+ * <p>
+ * Each applicant takes one {@link #SLOT_SIZE}-byte slot of the record file, holding its id, added time, rating and
+ * position in the list, and the offset and length of each of its strings in the heap. Slots never cross a page, so
+ * changing a field of one applicant touches one page of the record file. Saving the data file of this storage only
+ * writes the slots of the applicants added, changed or removed since the last save. A status or rating change, as
+ * made by {@link seedu.address.model.Model#setStatus} and {@link seedu.address.model.Model#setRating}, rewrites only
+ * that field of the slot, and appends a status to the heap only the first time it is used.
+ * <p>
+ * Strings are only ever appended to the heap, and are written and forced to disk before any slot refers to them.
+ * Once the heap has grown to twice its size after the last compaction, it is compacted in place, see
+ * {@link #compactHeap()}.
+ * <p>
+ * The header and every slot end in a checksum. The slots written by a save are first written to a redo log next to
+ * the record file, and forced to disk, before they are written in place, so that a save torn by a crash is replayed
+ * from the redo log when the record file is next opened. The first save after the record file is opened copies it
+ * and its heap to the backup of the record file, so that the backup holds the data as it was before that save. A
+ * record file that cannot be read is never written in place: the next save moves it out of the way, keeping its
+ * backup, and writes a new one.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".rec";
+
+    static final int MAGIC = 0x41424B52; // "ABKR"
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 128;
+    static final int SLOT_SIZE = 128;
+    static final long MIN_HEAP_SIZE_BEFORE_COMPACTION = 64 * 1024;
+
+    static final String MESSAGE_NOT_RECORD_FILE = "Data file is not a record address book";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported";
+    static final String MESSAGE_CORRUPTED_FILE = "Data file is corrupted";
+
+    static final String UNREADABLE_FILE_SUFFIX = ".unreadable-";
+
+    private static final String HEAP_FILE_SUFFIX = ".heap";
+    private static final String REDO_LOG_FILE_SUFFIX = ".redo";
+    private static final int INITIAL_CAPACITY = 64;
+    private static final String TAG_SEPARATOR = ",";
+
+    // Offsets of the fields of the header
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOT_SIZE = 8;
+    private static final int HEADER_HEAP_GENERATION = 12;
+    private static final int HEADER_SLOT_COUNT = 16;
+    private static final int HEADER_CHECKSUM = 20;
+
+    // Offsets of the fields of a slot
+    private static final int SLOT_STATE = 0;
+    private static final int SLOT_RATING = 1;
+    private static final int SLOT_ORDER = 4;
+    private static final int SLOT_ID_MOST_SIGNIFICANT_BITS = 8;
+    private static final int SLOT_ID_LEAST_SIGNIFICANT_BITS = 16;
+    private static final int SLOT_ADDED_EPOCH_SECOND = 24;
+    private static final int SLOT_ADDED_NANO = 32;
+    private static final int SLOT_STRINGS = 40;
+    private static final int SLOT_CHECKSUM = 104;
+
+    private static final byte STATE_FREE = 0;
+    private static final byte STATE_LIVE = 1;
+
+    // The strings of a slot, each stored as the int offset and int length of its UTF-8 bytes in the heap
+    private static final int NAME = 0;
+    private static final int PHONE = 1;
+    private static final int EMAIL = 2;
+    private static final int JOB_POSITION = 3;
+    private static final int STATUS = 4;
+    private static final int ADDRESS = 5;
+    private static final int TAGS = 6;
+    private static final int PROFILE_PICTURE_PATH = 7;
+    private static final int STRING_COUNT = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private Path filePath;
+    private final SaveDurability durability;
+
+    // Data files that could not be read. They may hold data that was not saved elsewhere, so they are set aside
+    // rather than written to, and their backups are kept
+    private final Set<Path> unreadableFilePaths = ConcurrentHashMap.newKeySet();
+
+    // The open record and heap files of filePath, or null if they are not open
+    private FileChannel recordChannel;
+    private MappedByteBuffer records;
+    private FileChannel heapChannel;
+    private int heapGeneration;
+    private int slotCount;
+    private long heapSize;
+    private long compactedHeapSize;
+    // Whether the open files have been copied to the backup since they were opened
+    private boolean isBackedUp;
+
+    // The live slots of filePath by applicant id, or null if they are not known
+    private Map<UUID, Slot> slots;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextOrder;
+    // The references of statuses, job positions and tags already in the heap, which are shared by many applicants
+    private final Map<String, Long> sharedStrings = new HashMap<>();
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, SaveDurability.FSYNC_FILE);
+    }
+
+    /**
+     * Creates a storage for the record file {@code filePath}, pushed to the storage device as far as
+     * {@code durability} requires on every save.
+     */
+    public MappedAddressBookStorage(Path filePath, SaveDurability durability) {
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the string heap file of generation {@code generation} of the record file {@code filePath}.
+     */
+    static Path getHeapFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + HEAP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the redo log of the record file {@code filePath}.
+     */
+    static Path getRedoLogFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + REDO_LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage is memory-mapped, and is kept open for later saves.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Record file " + filePath + " found.");
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        List<StoredSlot> storedSlots;
+        List<Applicant> applicants;
+        try {
+            ByteBuffer fileRecords;
+            ByteBuffer heap;
+            if (isOwnFile) {
+                open();
+                fileRecords = records;
+                heap = readHeap();
+            } else {
+                fileRecords = ByteBuffer.wrap(Files.readAllBytes(filePath));
+                heap = ByteBuffer.wrap(Files.readAllBytes(
+                        getHeapFilePath(filePath, readHeader(fileRecords, fileRecords.capacity()))));
+            }
+            storedSlots = scanSlots(fileRecords, fileRecords.getInt(HEADER_SLOT_COUNT));
+            ParallelApplicantConverter converter = new ParallelApplicantConverter();
+            for (StoredSlot storedSlot : storedSlots) {
+                converter.add(decodeApplicant(fileRecords, storedSlot.index, heap));
+            }
+            applicants = converter.finish();
+        } catch (IOException e) {
+            logger.warning("Error reading from record file " + filePath + ": " + e);
+            if (isOwnFile) {
+                close();
+            }
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(ive);
+        }
+
+        try {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(applicants);
+            if (isOwnFile) {
+                recordSlots(storedSlots, applicants, getProfilePicturePaths(addressBook));
+            }
+            unreadableFilePaths.remove(filePath);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            unreadableFilePaths.add(filePath);
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the slots of the data file of this storage are written in place. Other files are written anew every
+     * time.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Applicant> applicants = new ArrayList<>(addressBook.getPersonList());
+        List<String> profilePicturePaths = getProfilePicturePaths(addressBook);
+        if (!filePath.equals(this.filePath)) {
+            writeNewFiles(applicants, profilePicturePaths, filePath, durability,
+                    !unreadableFilePaths.contains(filePath));
+            unreadableFilePaths.remove(filePath);
+            return;
+        }
+
+        try {
+            if (unreadableFilePaths.contains(filePath) || records == null && !tryOpen()) {
+                // a missing or unreadable file is replaced as a whole, as other storages do
+                close();
+                writeNewFiles(applicants, profilePicturePaths, filePath, durability,
+                        !unreadableFilePaths.contains(filePath));
+                unreadableFilePaths.remove(filePath);
+                open();
+                // the old files, if any, were backed up or set aside by the replacement
+                isBackedUp = true;
+                recordSlots(scanSlots(records, slotCount), applicants, profilePicturePaths);
+                return;
+            }
+            if (slots == null) {
+                recordSlots(scanSlots(records, slotCount), null, null);
+            }
+            writeChanges(applicants, profilePicturePaths);
+            if (heapSize > MIN_HEAP_SIZE_BEFORE_COMPACTION && heapSize > 2 * compactedHeapSize) {
+                compactHeap();
+            }
+        } catch (IOException e) {
+            // the slots in the file are unknown after a failed write, so they are scanned again on the next save
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites the string heap of the data file of this storage to hold only the strings of live slots, each
+     * distinct string once.
+     * <p>
+     * The heap is compacted in place, so that the record file stays mapped, without any slot ever referring to
+     * bytes that are not yet on disk: the live strings are first appended to the heap and the slots pointed to
+     * them, then copied to the start of the heap and the slots pointed there, before the heap is truncated.
+     */
+    public synchronized void compactHeap() throws IOException {
+        try {
+            open();
+            if (slots == null) {
+                recordSlots(scanSlots(records, slotCount), null, null);
+            }
+            ensureBackedUp();
+
+            ByteBuffer heap = readHeap();
+            ByteArrayOutputStream compactedHeap = new ByteArrayOutputStream();
+            Map<String, Long> compactedStrings = new HashMap<>();
+            Map<String, Long> compactedSharedStrings = new HashMap<>();
+            Map<Integer, long[]> compactedRefs = new HashMap<>();
+            for (Slot slot : slots.values()) {
+                long[] refs = new long[STRING_COUNT];
+                for (int i = 0; i < STRING_COUNT; i++) {
+                    String value = readString(heap, getRef(records, slot.index, i));
+                    refs[i] = compactedStrings.computeIfAbsent(value, unused -> append(compactedHeap, 0, value));
+                    if (isSharedString(i)) {
+                        compactedSharedStrings.put(value, refs[i]);
+                    }
+                }
+                compactedRefs.put(slot.index, refs);
+            }
+            byte[] compactedBytes = compactedHeap.toByteArray();
+            long appendOffset = heapSize;
+
+            writeHeap(compactedBytes, appendOffset);
+            forceHeap();
+            writeSlots(getRefWrites(compactedRefs, appendOffset), slotCount);
+
+            writeHeap(compactedBytes, 0);
+            forceHeap();
+            writeSlots(getRefWrites(compactedRefs, 0), slotCount);
+
+            heapChannel.truncate(compactedBytes.length);
+            forceHeap();
+            heapSize = compactedBytes.length;
+            compactedHeapSize = heapSize;
+
+            sharedStrings.clear();
+            sharedStrings.putAll(compactedSharedStrings);
+            logger.fine("Compacted string heap of " + filePath + " from " + appendOffset + " to " + heapSize
+                    + " bytes");
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the slots of the applicants added or changed since the last save, and frees the slots of the
+     * applicants removed since then. If the applicants that were kept are no longer in the order of their slots,
+     * every slot is given the position of its applicant in {@code applicants}. The profile picture paths of
+     * {@code applicants} are {@code profilePicturePaths}.
+     */
+    private void writeChanges(List<Applicant> applicants, List<String> profilePicturePaths) throws IOException {
+        ensureBackedUp();
+        boolean isOrderKept = isOrderKept(applicants);
+        ByteArrayOutputStream appendedHeap = new ByteArrayOutputStream();
+        Map<UUID, Slot> newSlots = new HashMap<>();
+        List<SlotWrite> slotWrites = new ArrayList<>();
+
+        Map<UUID, Applicant> applicantsById = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            applicantsById.put(applicant.getId(), applicant);
+        }
+        for (Slot slot : slots.values()) {
+            if (!applicantsById.containsKey(slot.id)) {
+                slotWrites.add(SlotWrite.ofFree(slot.index));
+                freeSlots.add(slot.index);
+            }
+        }
+
+        int order = isOrderKept ? nextOrder : 0;
+        int newSlotCount = slotCount;
+        for (int i = 0; i < applicants.size(); i++) {
+            Applicant applicant = applicants.get(i);
+            String profilePicturePath = profilePicturePaths.get(i);
+            Slot slot = slots.get(applicant.getId());
+            int slotOrder = isOrderKept && slot != null ? slot.order : order++;
+            if (slot == null) {
+                Integer freeSlot = freeSlots.poll();
+                int index = freeSlot != null ? freeSlot : newSlotCount++;
+                slotWrites.add(SlotWrite.ofApplicant(index, applicant,
+                        encodeStrings(applicant, profilePicturePath, appendedHeap), slotOrder));
+                newSlots.put(applicant.getId(), new Slot(index, applicant, profilePicturePath, slotOrder));
+                continue;
+            }
+
+            if (slot.isSlotOf(applicant, profilePicturePath)) {
+                if (slotOrder != slot.order) {
+                    slotWrites.add(SlotWrite.ofOrder(slot.index, slotOrder));
+                }
+            } else if (slot.isStatusOrRatingChangeOf(applicant, profilePicturePath)) {
+                Long statusRef = applicant.getStatus().equals(slot.applicant.getStatus())
+                        ? null
+                        : encodeSharedString(applicant.getStatus().value, appendedHeap);
+                slotWrites.add(SlotWrite.ofStatusAndRating(slot.index, applicant, statusRef, slotOrder));
+            } else {
+                slotWrites.add(SlotWrite.ofApplicant(slot.index, applicant,
+                        encodeStrings(applicant, profilePicturePath, appendedHeap), slotOrder));
+            }
+            newSlots.put(applicant.getId(), new Slot(slot.index, applicant, profilePicturePath, slotOrder));
+        }
+
+        // strings are on disk before any slot refers to them
+        writeHeap(appendedHeap.toByteArray(), heapSize);
+        heapSize += appendedHeap.size();
+        forceHeap();
+
+        writeSlots(slotWrites, newSlotCount);
+
+        slots = newSlots;
+        nextOrder = order;
+    }
+
+    /**
+     * Applies {@code slotWrites} to the record file, and sets its slot count to {@code newSlotCount}, as a whole.
+     * The new content of the header and of every slot written, each with a fresh checksum, is first written to the
+     * redo log and forced to disk, and only then written in place, so that a crash partway through is made good by
+     * replaying the redo log.
+     */
+    private void writeSlots(List<SlotWrite> slotWrites, int newSlotCount) throws IOException {
+        ensureCapacity(newSlotCount);
+        Map<Integer, ByteBuffer> newSlots = new TreeMap<>();
+        for (SlotWrite slotWrite : slotWrites) {
+            slotWrite.writeTo(newSlots.computeIfAbsent(slotWrite.index,
+                    index -> copyOf(records, getSlotOffset(index), SLOT_SIZE)));
+        }
+        for (ByteBuffer slot : newSlots.values()) {
+            putChecksum(slot, SLOT_CHECKSUM);
+        }
+        ByteBuffer header = copyOf(records, 0, HEADER_SIZE);
+        header.putInt(HEADER_SLOT_COUNT, newSlotCount);
+        putChecksum(header, HEADER_CHECKSUM);
+
+        writeRedoLog(header, newSlots);
+        put(records, 0, header);
+        for (Map.Entry<Integer, ByteBuffer> slot : newSlots.entrySet()) {
+            put(records, getSlotOffset(slot.getKey()), slot.getValue());
+        }
+        forceRecords();
+        slotCount = newSlotCount;
+
+        // a redo log that is not emptied on disk is only replayed onto the slots it already wrote
+        try (FileChannel redoLog = FileChannel.open(getRedoLogFilePath(filePath), StandardOpenOption.WRITE)) {
+            redoLog.truncate(0);
+        }
+    }
+
+    /**
+     * Writes {@code header} and {@code slots}, by slot index, to the redo log, followed by a checksum of the whole
+     * log, and forces it to disk unless no durability is required.
+     * Package-private so that tests can make a save fail after its redo log is written.
+     */
+    void writeRedoLog(ByteBuffer header, Map<Integer, ByteBuffer> slots) throws IOException {
+        ByteBuffer redoLog = ByteBuffer.allocate(HEADER_SIZE + Integer.BYTES
+                + slots.size() * (Integer.BYTES + SLOT_SIZE) + Long.BYTES);
+        redoLog.put(header.duplicate().clear());
+        redoLog.putInt(slots.size());
+        for (Map.Entry<Integer, ByteBuffer> slot : slots.entrySet()) {
+            redoLog.putInt(slot.getKey());
+            redoLog.put(slot.getValue().duplicate().clear());
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(redoLog.array(), 0, redoLog.position());
+        redoLog.putLong(checksum.getValue());
+        redoLog.flip();
+
+        try (FileChannel channel = FileChannel.open(getRedoLogFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (redoLog.hasRemaining()) {
+                channel.write(redoLog);
+            }
+            if (durability != SaveDurability.NONE) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the header and slots in the redo log of the record file of this storage to the open record file, if
+     * the redo log is complete and was written for the heap generation of the record file, and empties it.
+     * A redo log torn by a crash is ignored, as the record file was not written to after it.
+     */
+    private void replayRedoLog() throws IOException {
+        Path redoLogPath = getRedoLogFilePath(filePath);
+        if (!Files.exists(redoLogPath)) {
+            return;
+        }
+        ByteBuffer redoLog = ByteBuffer.wrap(Files.readAllBytes(redoLogPath));
+        if (redoLog.capacity() == 0) {
+            return;
+        }
+
+        if (isCompleteRedoLog(redoLog) && isRedoLogOfRecordFile(redoLog)) {
+            recordChannel.write(copyOf(redoLog, 0, HEADER_SIZE), 0);
+            int slotCount = redoLog.getInt(HEADER_SIZE);
+            for (int i = 0; i < slotCount; i++) {
+                int entryOffset = HEADER_SIZE + Integer.BYTES + i * (Integer.BYTES + SLOT_SIZE);
+                recordChannel.write(copyOf(redoLog, entryOffset + Integer.BYTES, SLOT_SIZE),
+                        getSlotOffset(redoLog.getInt(entryOffset)));
+            }
+            recordChannel.force(false);
+            logger.info("Replayed the redo log of record file " + filePath + " left by a torn save");
+        } else {
+            logger.warning("Ignoring the torn or stale redo log of record file " + filePath);
+        }
+        try (FileChannel channel = FileChannel.open(redoLogPath, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+    }
+
+    private static boolean isCompleteRedoLog(ByteBuffer redoLog) {
+        int size = redoLog.capacity();
+        if (size < HEADER_SIZE + Integer.BYTES + Long.BYTES) {
+            return false;
+        }
+        long slotCount = redoLog.getInt(HEADER_SIZE);
+        if (slotCount < 0
+                || HEADER_SIZE + Integer.BYTES + slotCount * (Integer.BYTES + SLOT_SIZE) + Long.BYTES != size) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(redoLog.array(), 0, size - Long.BYTES);
+        return checksum.getValue() == redoLog.getLong(size - Long.BYTES);
+    }
+
+    /**
+     * Returns true if the header in {@code redoLog} has the heap generation of the open record file, or the header
+     * of the record file is itself torn.
+     */
+    private boolean isRedoLogOfRecordFile(ByteBuffer redoLog) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && recordChannel.read(header, header.position()) >= 0) {
+            // keep reading until the header is full or the file ends
+        }
+        try {
+            return readHeader(header, recordChannel.size()) == redoLog.getInt(HEADER_HEAP_GENERATION);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns true if the applicants in {@code applicants} that have slots are in the order of their slots, and
+     * every applicant without a slot comes after all of them, so that the slots need not be reordered.
+     */
+    private boolean isOrderKept(List<Applicant> applicants) {
+        int lastOrder = -1;
+        boolean hasNewApplicant = false;
+        for (Applicant applicant : applicants) {
+            Slot slot = slots.get(applicant.getId());
+            if (slot == null) {
+                hasNewApplicant = true;
+            } else if (hasNewApplicant || slot.order <= lastOrder) {
+                return false;
+            } else {
+                lastOrder = slot.order;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the strings of {@code applicant} to {@code appendedHeap}, which is to be written at the end of the
+     * heap, and returns their references, reusing the references of shared strings already in the heap.
+     */
+    private long[] encodeStrings(Applicant applicant, String profilePicturePath,
+                                 ByteArrayOutputStream appendedHeap) {
+        long[] refs = new long[STRING_COUNT];
+        refs[NAME] = append(appendedHeap, heapSize, applicant.getName().fullName);
+        refs[PHONE] = append(appendedHeap, heapSize, applicant.getPhone().value);
+        refs[EMAIL] = append(appendedHeap, heapSize, applicant.getEmail().value);
+        refs[JOB_POSITION] = encodeSharedString(applicant.getJobPosition().jobPosition, appendedHeap);
+        refs[STATUS] = encodeSharedString(applicant.getStatus().value, appendedHeap);
+        refs[ADDRESS] = append(appendedHeap, heapSize, applicant.getAddress().value);
+        refs[TAGS] = encodeSharedString(joinTagNames(applicant), appendedHeap);
+        refs[PROFILE_PICTURE_PATH] = append(appendedHeap, heapSize, profilePicturePath);
+        return refs;
+    }
+
+    private long encodeSharedString(String value, ByteArrayOutputStream appendedHeap) {
+        return sharedStrings.computeIfAbsent(value, unused -> append(appendedHeap, heapSize, value));
+    }
+
+    /**
+     * Appends {@code value} to {@code heap}, which starts at {@code heapOffset} in the heap file, and returns its
+     * reference.
+     */
+    private static long append(ByteArrayOutputStream heap, long heapOffset, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long ref = toRef(heapOffset + heap.size(), bytes.length);
+        heap.write(bytes, 0, bytes.length);
+        return ref;
+    }
+
+    private static String joinTagNames(Applicant applicant) {
+        // tag names are alphanumeric, so they never contain the separator
+        return applicant.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.joining(TAG_SEPARATOR));
+    }
+
+    /**
+     * Writes {@code applicants}, whose profile picture paths are {@code profilePicturePaths}, to new record and heap
+     * files at {@code filePath}. A heap file of a new generation is written before the record file is replaced, so
+     * that the record file on disk always refers to a complete heap. The old files are copied to the backup if
+     * {@code isBackedUp}, and are set aside otherwise, or if they cannot be read.
+     */
+    private static void writeNewFiles(List<Applicant> applicants, List<String> profilePicturePaths, Path filePath,
+                                      SaveDurability durability, boolean isBackedUp) throws IOException {
+        int oldGeneration = readGeneration(filePath);
+        if (oldGeneration > 0 && isBackedUp) {
+            backUp(filePath, oldGeneration, durability);
+            Files.deleteIfExists(getRedoLogFilePath(filePath));
+        } else if (Files.exists(filePath)) {
+            setAside(filePath);
+        }
+
+        int generation = oldGeneration + 1;
+        int capacity = Math.max(INITIAL_CAPACITY, applicants.size());
+        ByteBuffer newRecords = ByteBuffer.allocate(HEADER_SIZE + capacity * SLOT_SIZE);
+        writeHeader(newRecords, generation, applicants.size());
+
+        ByteArrayOutputStream heap = new ByteArrayOutputStream();
+        Map<String, Long> strings = new HashMap<>();
+        for (int i = 0; i < applicants.size(); i++) {
+            Applicant applicant = applicants.get(i);
+            long[] refs = new long[STRING_COUNT];
+            refs[NAME] = append(heap, 0, applicant.getName().fullName);
+            refs[PHONE] = append(heap, 0, applicant.getPhone().value);
+            refs[EMAIL] = append(heap, 0, applicant.getEmail().value);
+            refs[JOB_POSITION] = strings.computeIfAbsent(applicant.getJobPosition().jobPosition,
+                    value -> append(heap, 0, value));
+            refs[STATUS] = strings.computeIfAbsent(applicant.getStatus().value, value -> append(heap, 0, value));
+            refs[ADDRESS] = append(heap, 0, applicant.getAddress().value);
+            refs[TAGS] = strings.computeIfAbsent(joinTagNames(applicant), value -> append(heap, 0, value));
+            refs[PROFILE_PICTURE_PATH] = append(heap, 0, profilePicturePaths.get(i));
+            ByteBuffer slot = ByteBuffer.allocate(SLOT_SIZE);
+            SlotWrite.ofApplicant(i, applicant, refs, i).writeTo(slot);
+            putChecksum(slot, SLOT_CHECKSUM);
+            put(newRecords, getSlotOffset(i), slot);
+        }
+
+        FileUtil.writeAtomically(getHeapFilePath(filePath, generation),
+                tempFile -> Files.write(tempFile, heap.toByteArray()), durability, false);
+        FileUtil.writeAtomically(filePath, tempFile -> Files.write(tempFile, newRecords.array()), durability, false);
+        if (oldGeneration > 0) {
+            Files.deleteIfExists(getHeapFilePath(filePath, oldGeneration));
+        }
+    }
+
+    /**
+     * Copies the files of this storage to the backup of the record file, if they have not been copied since they
+     * were opened.
+     */
+    private void ensureBackedUp() throws IOException {
+        if (!isBackedUp) {
+            backUp(filePath, heapGeneration, durability);
+            isBackedUp = true;
+        }
+    }
+
+    /**
+     * Copies the record file {@code filePath}, whose heap is of generation {@code generation}, and its heap to the
+     * backup of the record file, replacing the previous backup. The backup is given a heap of its own generation,
+     * written before the backup record file, so that the backup record file always refers to a complete heap.
+     */
+    private static void backUp(Path filePath, int generation, SaveDurability durability) throws IOException {
+        Path backupPath = FileUtil.getBackupFilePath(filePath);
+        int oldBackupGeneration = readGeneration(backupPath);
+        int backupGeneration = oldBackupGeneration + 1;
+        ByteBuffer backupRecords = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        backupRecords.putInt(HEADER_HEAP_GENERATION, backupGeneration);
+        putChecksum(backupRecords, HEADER_CHECKSUM);
+
+        Path heapPath = getHeapFilePath(filePath, generation);
+        FileUtil.writeAtomically(getHeapFilePath(backupPath, backupGeneration),
+                tempFile -> Files.copy(heapPath, tempFile, StandardCopyOption.REPLACE_EXISTING), durability, false);
+        FileUtil.writeAtomically(backupPath, tempFile -> Files.write(tempFile, backupRecords.array()), durability,
+                false);
+        if (oldBackupGeneration > 0) {
+            Files.deleteIfExists(getHeapFilePath(backupPath, oldBackupGeneration));
+        }
+    }
+
+    /**
+     * Moves the record file {@code filePath}, which could not be read, together with its heap files and redo log,
+     * out of the way under a new name, so that no data still in them is lost when a new record file is written.
+     */
+    private static void setAside(Path filePath) throws IOException {
+        Path asidePath = filePath.resolveSibling(
+                filePath.getFileName() + UNREADABLE_FILE_SUFFIX + System.currentTimeMillis());
+        String heapFilePrefix = filePath.getFileName() + ".";
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(filePath.toAbsolutePath().getParent())) {
+            for (Path sibling : siblings) {
+                String fileName = sibling.getFileName().toString();
+                if (!fileName.startsWith(heapFilePrefix) || !fileName.endsWith(HEAP_FILE_SUFFIX)) {
+                    continue;
+                }
+                String generation = fileName.substring(heapFilePrefix.length(),
+                        fileName.length() - HEAP_FILE_SUFFIX.length());
+                if (generation.matches("\\d+")) {
+                    Files.move(sibling, getHeapFilePath(asidePath, Integer.parseInt(generation)));
+                }
+            }
+        }
+        if (Files.exists(getRedoLogFilePath(filePath))) {
+            Files.move(getRedoLogFilePath(filePath), getRedoLogFilePath(asidePath));
+        }
+        Files.move(filePath, asidePath);
+        logger.warning("Record file " + filePath + " could not be read, and was moved to " + asidePath);
+    }
+
+    /**
+     * Returns the heap generation of the record file {@code filePath}, or 0 if it is missing or unreadable.
+     */
+    private static int readGeneration(Path filePath) {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+            return readHeader(header, channel.size());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void writeHeader(ByteBuffer buffer, int generation, int slotCount) {
+        buffer.putInt(HEADER_MAGIC, MAGIC);
+        buffer.putInt(HEADER_VERSION, FORMAT_VERSION);
+        buffer.putInt(HEADER_SLOT_SIZE, SLOT_SIZE);
+        buffer.putInt(HEADER_HEAP_GENERATION, generation);
+        buffer.putInt(HEADER_SLOT_COUNT, slotCount);
+        putChecksum(buffer, HEADER_CHECKSUM);
+    }
+
+    /**
+     * Checks the header of a record file of {@code fileSize} bytes at the start of {@code buffer}, and returns its
+     * heap generation.
+     *
+     * @throws IOException if the header is not that of a record file of this format.
+     */
+    private static int readHeader(ByteBuffer buffer, long fileSize) throws IOException {
+        if (fileSize < HEADER_SIZE || buffer.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException(MESSAGE_NOT_RECORD_FILE);
+        }
+        int version = buffer.getInt(HEADER_VERSION);
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (!hasValidChecksum(buffer, 0, HEADER_CHECKSUM)) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        int slotCount = buffer.getInt(HEADER_SLOT_COUNT);
+        if (buffer.getInt(HEADER_SLOT_SIZE) != SLOT_SIZE || slotCount < 0
+                || HEADER_SIZE + (long) slotCount * SLOT_SIZE > fileSize) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return buffer.getInt(HEADER_HEAP_GENERATION);
+    }
+
+    /**
+     * Returns the live slots among the first {@code slotCount} slots of {@code records}, in list order.
+     */
+    private static List<StoredSlot> scanSlots(ByteBuffer records, int slotCount) throws IOException {
+        List<StoredSlot> storedSlots = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            int slotOffset = getSlotOffset(i);
+            if (!hasValidChecksum(records, slotOffset, SLOT_CHECKSUM)) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            byte state = records.get(slotOffset + SLOT_STATE);
+            if (state == STATE_LIVE) {
+                UUID id = new UUID(records.getLong(slotOffset + SLOT_ID_MOST_SIGNIFICANT_BITS),
+                        records.getLong(slotOffset + SLOT_ID_LEAST_SIGNIFICANT_BITS));
+                storedSlots.add(new StoredSlot(i, id, records.getInt(slotOffset + SLOT_ORDER)));
+            } else if (state != STATE_FREE) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+        }
+        storedSlots.sort(Comparator.comparingInt(storedSlot -> storedSlot.order));
+        return storedSlots;
+    }
+
+    private static JsonAdaptedApplicant decodeApplicant(ByteBuffer records, int slotIndex, ByteBuffer heap)
+            throws IOException {
+        int slotOffset = getSlotOffset(slotIndex);
+        String[] strings = new String[STRING_COUNT];
+        for (int i = 0; i < STRING_COUNT; i++) {
+            strings[i] = readString(heap, getRef(records, slotIndex, i));
+        }
+        UUID id = new UUID(records.getLong(slotOffset + SLOT_ID_MOST_SIGNIFICANT_BITS),
+                records.getLong(slotOffset + SLOT_ID_LEAST_SIGNIFICANT_BITS));
+        LocalDateTime addedTime;
+        try {
+            addedTime = LocalDateTime.ofEpochSecond(records.getLong(slotOffset + SLOT_ADDED_EPOCH_SECOND),
+                    records.getInt(slotOffset + SLOT_ADDED_NANO), ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        if (!strings[TAGS].isEmpty()) {
+            for (String tagName : strings[TAGS].split(TAG_SEPARATOR)) {
+                tags.add(new JsonAdaptedTag(tagName));
+            }
+        }
+        return new JsonAdaptedApplicant(id.toString(), strings[NAME], strings[PHONE], strings[EMAIL],
+                strings[JOB_POSITION], strings[STATUS], strings[ADDRESS], addedTime, tags,
+                String.valueOf(records.get(slotOffset + SLOT_RATING)), strings[PROFILE_PICTURE_PATH]);
+    }
+
+    private static String readString(ByteBuffer heap, long ref) throws IOException {
+        int offset = getRefOffset(ref);
+        int length = getRefLength(ref);
+        if (offset < 0 || length < 0 || (long) offset + length > heap.limit()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new String(heap.array(), heap.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static int getSlotOffset(int slotIndex) {
+        return HEADER_SIZE + slotIndex * SLOT_SIZE;
+    }
+
+    /**
+     * Writes the checksum of the first {@code checksumOffset} bytes of {@code buffer} at {@code checksumOffset}.
+     */
+    private static void putChecksum(ByteBuffer buffer, int checksumOffset) {
+        buffer.putInt(checksumOffset, getChecksum(buffer, 0, checksumOffset));
+    }
+
+    /**
+     * Returns true if the {@code checksumOffset} bytes at {@code offset} in {@code buffer} are followed by their
+     * checksum.
+     */
+    private static boolean hasValidChecksum(ByteBuffer buffer, int offset, int checksumOffset) {
+        return buffer.getInt(offset + checksumOffset) == getChecksum(buffer, offset, checksumOffset);
+    }
+
+    private static int getChecksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(offset + length).position(offset));
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Returns a copy of the {@code length} bytes at {@code offset} in {@code buffer}.
+     */
+    private static ByteBuffer copyOf(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer copy = ByteBuffer.allocate(length);
+        copy.put(buffer.duplicate().limit(offset + length).position(offset));
+        return copy.flip();
+    }
+
+    /**
+     * Writes all of {@code source} to {@code buffer} at {@code offset}.
+     */
+    private static void put(ByteBuffer buffer, int offset, ByteBuffer source) {
+        buffer.duplicate().position(offset).put(source.duplicate().clear());
+    }
+
+    private static long getRef(ByteBuffer records, int slotIndex, int string) {
+        return records.getLong(getSlotOffset(slotIndex) + SLOT_STRINGS + string * Long.BYTES);
+    }
+
+    private static boolean isSharedString(int string) {
+        return string == JOB_POSITION || string == STATUS || string == TAGS;
+    }
+
+    private static long toRef(long offset, int length) {
+        return (offset << Integer.SIZE) | (length & 0xFFFFFFFFL);
+    }
+
+    private static int getRefOffset(long ref) {
+        return (int) (ref >>> Integer.SIZE);
+    }
+
+    private static int getRefLength(long ref) {
+        return (int) ref;
+    }
+
+    /**
+     * Opens and maps the record file and opens the heap file of this storage, if they are not open yet.
+     *
+     * @throws IOException if the files could not be opened, or are not those of an address book of this format.
+     */
+    private void open() throws IOException {
+        if (records != null) {
+            return;
+        }
+        try {
+            recordChannel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            replayRedoLog();
+            long fileSize = recordChannel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && recordChannel.read(header, header.position()) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+            heapGeneration = readHeader(header, fileSize);
+            slotCount = header.getInt(HEADER_SLOT_COUNT);
+            records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+
+            heapChannel = FileChannel.open(getHeapFilePath(filePath, heapGeneration), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            heapSize = heapChannel.size();
+            compactedHeapSize = heapSize;
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the files of this storage could be opened.
+     */
+    private boolean tryOpen() {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try {
+            open();
+            return true;
+        } catch (IOException e) {
+            logger.warning("Record file " + filePath + " could not be opened, and will be set aside: " + e);
+            unreadableFilePaths.add(filePath);
+            return false;
+        }
+    }
+
+    /**
+     * Closes the files of this storage and forgets what is in them.
+     * The mapping of the record file is released once it is garbage collected.
+     */
+    private void close() {
+        for (FileChannel channel : new FileChannel[] {recordChannel, heapChannel}) {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                logger.warning("Error closing record file " + filePath + ": " + e);
+            }
+        }
+        recordChannel = null;
+        heapChannel = null;
+        records = null;
+        isBackedUp = false;
+        slots = null;
+        freeSlots.clear();
+        sharedStrings.clear();
+    }
+
+    private ByteBuffer readHeap() throws IOException {
+        if (heapSize > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        ByteBuffer heap = ByteBuffer.allocate((int) heapSize);
+        while (heap.hasRemaining() && heapChannel.read(heap, heap.position()) >= 0) {
+            // keep reading until the heap is read or the file ends
+        }
+        heap.flip();
+        return heap;
+    }
+
+    private void writeHeap(byte[] bytes, long offset) throws IOException {
+        if (offset + bytes.length > Integer.MAX_VALUE) {
+            throw new IOException("String heap of " + filePath + " is full");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            heapChannel.write(buffer, offset + buffer.position());
+        }
+    }
+
+    private void forceHeap() throws IOException {
+        if (durability != SaveDurability.NONE) {
+            heapChannel.force(false);
+        }
+    }
+
+    private void forceRecords() {
+        if (durability != SaveDurability.NONE) {
+            records.force();
+        }
+    }
+
+    /**
+     * Maps enough of the record file to hold {@code requiredSlotCount} slots, growing the file if needed.
+     */
+    private void ensureCapacity(int requiredSlotCount) throws IOException {
+        long requiredSize = HEADER_SIZE + (long) requiredSlotCount * SLOT_SIZE;
+        if (requiredSize <= records.capacity()) {
+            return;
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, (records.capacity() - HEADER_SIZE) / SLOT_SIZE);
+        while (HEADER_SIZE + (long) capacity * SLOT_SIZE < requiredSize) {
+            capacity *= 2;
+        }
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+    }
+
+    /**
+     * Returns the writes that point the strings of the slots in {@code refs} to the references in it, moved by
+     * {@code heapOffset}.
+     */
+    private static List<SlotWrite> getRefWrites(Map<Integer, long[]> refs, long heapOffset) {
+        List<SlotWrite> refWrites = new ArrayList<>();
+        for (Map.Entry<Integer, long[]> slotRefs : refs.entrySet()) {
+            long[] movedRefs = new long[STRING_COUNT];
+            for (int i = 0; i < STRING_COUNT; i++) {
+                long ref = slotRefs.getValue()[i];
+                movedRefs[i] = toRef(getRefOffset(ref) + heapOffset, getRefLength(ref));
+            }
+            refWrites.add(SlotWrite.ofRefs(slotRefs.getKey(), movedRefs));
+        }
+        return refWrites;
+    }
+
+    /**
+     * Records the live slots of the data file of this storage, holding {@code applicants} with
+     * {@code profilePicturePaths} in the same order, or holding unknown applicants if {@code applicants} is null, so
+     * that they are all rewritten on the next save.
+     */
+    private void recordSlots(List<StoredSlot> storedSlots, List<Applicant> applicants,
+                             List<String> profilePicturePaths) {
+        slots = new HashMap<>();
+        freeSlots.clear();
+        nextOrder = 0;
+        boolean[] isLive = new boolean[slotCount];
+        for (int i = 0; i < storedSlots.size(); i++) {
+            StoredSlot storedSlot = storedSlots.get(i);
+            Applicant applicant = applicants == null ? null : applicants.get(i);
+            String profilePicturePath = applicants == null ? null : profilePicturePaths.get(i);
+            slots.put(storedSlot.id,
+                    new Slot(storedSlot.index, storedSlot.id, applicant, profilePicturePath, storedSlot.order));
+            isLive[storedSlot.index] = true;
+            nextOrder = Math.max(nextOrder, storedSlot.order + 1);
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (!isLive[i]) {
+                freeSlots.add(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the profile picture paths of the applicants of {@code addressBook}, in list order.
+     */
+    private static List<String> getProfilePicturePaths(ReadOnlyAddressBook addressBook) {
+        List<String> profilePicturePaths = new ArrayList<>(addressBook.getPersonList().size());
+        for (int i = 0; i < addressBook.getPersonList().size(); i++) {
+            profilePicturePaths.add(addressBook.getProfilePicturePath(i));
+        }
+        return profilePicturePaths;
+    }
+
+    /**
+     * A live slot found in a record file.
+     */
+    private static class StoredSlot {
+        private final int index;
+        private final UUID id;
+        private final int order;
+
+        StoredSlot(int index, UUID id, int order) {
+            this.index = index;
+            this.id = id;
+            this.order = order;
+        }
+    }
+
+    /**
+     * The applicant stored in a live slot of the data file as last read or saved, with its position and profile
+     * picture path at that time.
+     */
+    private static class Slot {
+        private final int index;
+        private final UUID id;
+        private final Applicant applicant;
+        private final String profilePicturePath;
+        private final int order;
+
+        Slot(int index, Applicant applicant, String profilePicturePath, int order) {
+            this(index, applicant.getId(), applicant, profilePicturePath, order);
+        }
+
+        Slot(int index, UUID id, Applicant applicant, String profilePicturePath, int order) {
+            this.index = index;
+            this.id = id;
+            this.applicant = applicant;
+            this.profilePicturePath = profilePicturePath;
+            this.order = order;
+        }
+
+        /**
+         * Returns true if the slot still holds the data of {@code applicant}, with {@code profilePicturePath} as its
+         * profile picture path. Profile picture paths are changed in place, so they are compared separately.
+         */
+        boolean isSlotOf(Applicant applicant, String profilePicturePath) {
+            return this.applicant == applicant && this.profilePicturePath.equals(profilePicturePath);
+        }
+
+        /**
+         * Returns true if {@code applicant}, with {@code profilePicturePath} as its profile picture path, differs
+         * from the applicant in the slot in its status and rating only, as when it is a copy made with a new status
+         * or rating, so that only those fields need to be written.
+         */
+        boolean isStatusOrRatingChangeOf(Applicant applicant, String profilePicturePath) {
+            return this.applicant != null
+                    && this.applicant.getName() == applicant.getName()
+                    && this.applicant.getPhone() == applicant.getPhone()
+                    && this.applicant.getEmail() == applicant.getEmail()
+                    && this.applicant.getJobPosition() == applicant.getJobPosition()
+                    && this.applicant.getAddress() == applicant.getAddress()
+                    && this.applicant.getAddedTime() == applicant.getAddedTime()
+                    && this.applicant.getTags().equals(applicant.getTags())
+                    && this.profilePicturePath.equals(profilePicturePath);
+        }
+    }
+
+    /**
+     * A write to one slot of the record file.
+     */
+    private static class SlotWrite {
+        private enum Kind {
+            FREE, ORDER, STATUS_AND_RATING, REFS, APPLICANT
+        }
+
+        private final Kind kind;
+        private final int index;
+        private final Applicant applicant;
+        // The references of all strings of the slot, or of its status only, if they are written
+        private final long[] refs;
+        private final int order;
+
+        private SlotWrite(Kind kind, int index, Applicant applicant, long[] refs, int order) {
+            this.kind = kind;
+            this.index = index;
+            this.applicant = applicant;
+            this.refs = refs;
+            this.order = order;
+        }
+
+        /**
+         * Returns a write that frees the slot.
+         */
+        static SlotWrite ofFree(int index) {
+            return new SlotWrite(Kind.FREE, index, null, null, 0);
+        }
+
+        /**
+         * Returns a write of the position of the applicant in the slot.
+         */
+        static SlotWrite ofOrder(int index, int order) {
+            return new SlotWrite(Kind.ORDER, index, null, null, order);
+        }
+
+        /**
+         * Returns a write of the rating, position and, if {@code statusRef} is not null, status of
+         * {@code applicant} to its slot.
+         */
+        static SlotWrite ofStatusAndRating(int index, Applicant applicant, Long statusRef, int order) {
+            return new SlotWrite(Kind.STATUS_AND_RATING, index, applicant,
+                    statusRef == null ? null : new long[] {statusRef}, order);
+        }
+
+        /**
+         * Returns a write of the references of all strings of the slot, as when the heap is compacted.
+         */
+        static SlotWrite ofRefs(int index, long[] refs) {
+            return new SlotWrite(Kind.REFS, index, null, refs, 0);
+        }
+
+        /**
+         * Returns a write of all of {@code applicant}, with the strings at {@code refs}, to the slot.
+         */
+        static SlotWrite ofApplicant(int index, Applicant applicant, long[] refs, int order) {
+            return new SlotWrite(Kind.APPLICANT, index, applicant, refs, order);
+        }
+
+        /**
+         * Applies this write to {@code slot}, which holds the content of the slot only.
+         */
+        void writeTo(ByteBuffer slot) {
+            switch (kind) {
+            case FREE:
+                slot.put(SLOT_STATE, STATE_FREE);
+                break;
+            case ORDER:
+                slot.putInt(SLOT_ORDER, order);
+                break;
+            case STATUS_AND_RATING:
+                if (refs != null) {
+                    slot.putLong(SLOT_STRINGS + STATUS * Long.BYTES, refs[0]);
+                }
+                slot.put(SLOT_RATING, Byte.parseByte(applicant.getRating().value));
+                slot.putInt(SLOT_ORDER, order);
+                break;
+            case REFS:
+                for (int i = 0; i < STRING_COUNT; i++) {
+                    slot.putLong(SLOT_STRINGS + i * Long.BYTES, refs[i]);
+                }
+                break;
+            default:
+                LocalDateTime addedTime = applicant.getAddedTime();
+                slot.put(SLOT_RATING, Byte.parseByte(applicant.getRating().value));
+                slot.putInt(SLOT_ORDER, order);
+                slot.putLong(SLOT_ID_MOST_SIGNIFICANT_BITS, applicant.getId().getMostSignificantBits());
+                slot.putLong(SLOT_ID_LEAST_SIGNIFICANT_BITS, applicant.getId().getLeastSignificantBits());
+                slot.putLong(SLOT_ADDED_EPOCH_SECOND, addedTime.toEpochSecond(ZoneOffset.UTC));
+                slot.putInt(SLOT_ADDED_NANO, addedTime.getNano());
+                for (int i = 0; i < STRING_COUNT; i++) {
+                    slot.putLong(SLOT_STRINGS + i * Long.BYTES, refs[i]);
+                }
+                slot.put(SLOT_STATE, STATE_LIVE);
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * Converts {@link JsonAdaptedApplicant}s into {@link Applicant}s in parallel, in chunks on a fork-join pool.
+ * <p>
+ * Applicants are added one at a time, in file order, and each full chunk is converted while the next one is being
+ * added, so that a reader can keep parsing while earlier applicants are validated. The converted applicants are
+ * returned in the order they were added. If any applicant is invalid, the error names the first invalid applicant
+ * in that order, as a sequential conversion would.
+ */
+class ParallelApplicantConverter {
+
+    static final int CHUNK_SIZE = 512;
+
+    static final String MESSAGE_INVALID_APPLICANT = "Applicant %d in the data file is invalid: %s";
+
+    private final ForkJoinPool pool;
+    private final List<ForkJoinTask<Chunk>> convertingChunks = new ArrayList<>();
+    private List<JsonAdaptedApplicant> pendingChunk = new ArrayList<>(CHUNK_SIZE);
+    private int addedCount;
+
+    ParallelApplicantConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelApplicantConverter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the applicants converted from {@code jsonApplicants}.
+     *
+     * @throws IllegalValueException naming the first invalid applicant, if any applicant is invalid.
+     */
+    static List<Applicant> convertAll(List<JsonAdaptedApplicant> jsonApplicants) throws IllegalValueException {
+        ParallelApplicantConverter converter = new ParallelApplicantConverter();
+        for (JsonAdaptedApplicant jsonApplicant : jsonApplicants) {
+            converter.add(jsonApplicant);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Adds {@code jsonApplicant} as the next applicant to be converted.
+     */
+    void add(JsonAdaptedApplicant jsonApplicant) {
+        pendingChunk.add(jsonApplicant);
+        addedCount++;
+        if (pendingChunk.size() == CHUNK_SIZE) {
+            convertingChunks.add(pool.submit(new Chunk(pendingChunk, addedCount - CHUNK_SIZE)::convert));
+            pendingChunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Returns all the applicants added so far, converted, once their conversion is done.
+     * The last, partial chunk is converted on the calling thread, so that small files are not handed to the pool.
+     *
+     * @throws IllegalValueException naming the first invalid applicant, if any applicant is invalid.
+     */
+    List<Applicant> finish() throws IllegalValueException {
+        Chunk lastChunk = new Chunk(pendingChunk, addedCount - pendingChunk.size()).convert();
+        pendingChunk = new ArrayList<>(CHUNK_SIZE);
+
+        List<Applicant> applicants = new ArrayList<>(addedCount);
+        for (ForkJoinTask<Chunk> convertingChunk : convertingChunks) {
+            applicants.addAll(convertingChunk.join().getApplicants());
+        }
+        convertingChunks.clear();
+        applicants.addAll(lastChunk.getApplicants());
+        return applicants;
+    }
+
+    /**
+     * A run of consecutive applicants, converted together.
+     */
+    private static class Chunk {
+        private final int startIndex;
+        private List<JsonAdaptedApplicant> jsonApplicants;
+        private final List<Applicant> applicants;
+        private IllegalValueException error;
+
+        Chunk(List<JsonAdaptedApplicant> jsonApplicants, int startIndex) {
+            this.jsonApplicants = jsonApplicants;
+            this.startIndex = startIndex;
+            this.applicants = new ArrayList<>(jsonApplicants.size());
+        }
+
+        /**
+         * Converts the applicants of this chunk, stopping at the first invalid one.
+         */
+        Chunk convert() {
+            for (int i = 0; i < jsonApplicants.size(); i++) {
+                try {
+                    applicants.add(jsonApplicants.get(i).toModelType());
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    // applicants are numbered from 1 in the order they appear in the data file
+                    error = new IllegalValueException(
+                            String.format(MESSAGE_INVALID_APPLICANT, startIndex + i + 1, e.getMessage()), e);
+                    break;
+                }
+            }
+            // the adapted applicants are not needed any more once converted
+            jsonApplicants = null;
+            return this;
+        }
+
+        List<Applicant> getApplicants() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return applicants;
+        }
+    }
+}
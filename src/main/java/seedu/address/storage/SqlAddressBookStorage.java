@@ -0,0 +1,455 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file, running in-process.
+ * <p>
+ * Each applicant is a row of the {@code applicant} table, indexed on email, phone, status, job position and added
+ * time. Saving the data file of this storage only upserts the rows of the applicants added or changed since the last
+ * save, and deletes the rows of the applicants removed since then, in a single transaction. Only a change to the
+ * order of the applicants, such as a sort, updates the position of every row.
+ * <p>
+ * The database file of this storage is kept open on one connection from its first read or save until the app exits,
+ * when H2 closes it. H2 writes committed transactions to the file after a delay, and never syncs them on its own, so
+ * unless no durability is required, every save writes its transaction to the file at once and then syncs the file,
+ * as far as the {@link SaveDurability} of this storage requires.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".mv.db";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    // Reading never creates a database, so that a missing file is reported as missing
+    private static final String JDBC_URL_READ_OPTIONS = ";IFEXISTS=TRUE";
+    // Writes every commit to the file at once, rather than after a delay
+    private static final String JDBC_URL_DURABLE_OPTIONS = ";WRITE_DELAY=0";
+    private static final String TAG_SEPARATOR = ",";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS applicant ("
+                + "id UUID PRIMARY KEY, position INT NOT NULL, name VARCHAR NOT NULL, phone VARCHAR NOT NULL, "
+                + "email VARCHAR NOT NULL, job_position VARCHAR NOT NULL, status VARCHAR NOT NULL, "
+                + "address VARCHAR NOT NULL, added_time TIMESTAMP(9) NOT NULL, tags VARCHAR NOT NULL, "
+                + "rating VARCHAR NOT NULL, profile_picture_path VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS applicant_position ON applicant(position)",
+        "CREATE INDEX IF NOT EXISTS applicant_email ON applicant(email)",
+        "CREATE INDEX IF NOT EXISTS applicant_phone ON applicant(phone)",
+        "CREATE INDEX IF NOT EXISTS applicant_status ON applicant(status)",
+        "CREATE INDEX IF NOT EXISTS applicant_job_position ON applicant(job_position)",
+        "CREATE INDEX IF NOT EXISTS applicant_added_time ON applicant(added_time)",
+    };
+    private static final String SELECT_ALL = "SELECT id, name, phone, email, job_position, status, address, "
+            + "added_time, tags, rating, profile_picture_path FROM applicant ORDER BY position";
+    private static final String UPSERT = "MERGE INTO applicant (id, position, name, phone, email, job_position, "
+            + "status, address, added_time, tags, rating, profile_picture_path) KEY (id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_POSITION = "UPDATE applicant SET position = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM applicant WHERE id = ?";
+    private static final String DELETE_ALL = "DELETE FROM applicant";
+    private static final String SYNC = "CHECKPOINT SYNC";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private Path filePath;
+    private final SaveDurability durability;
+
+    // The open connection to filePath, or null if it is not open
+    private Connection connection;
+
+    // The rows in filePath as last read or saved, by applicant id, or null if the next save must rewrite every row
+    private Map<UUID, PersistedRow> persistedRows;
+    private int nextPosition;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this(filePath, SaveDurability.FSYNC_FILE);
+    }
+
+    /**
+     * Creates a storage for the database file {@code filePath}, pushed to the storage device as far as
+     * {@code durability} requires on every save.
+     */
+    public SqlAddressBookStorage(Path filePath, SaveDurability durability) {
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Database file " + filePath + " found.");
+
+        List<Applicant> applicants;
+        try {
+            if (filePath.equals(this.filePath)) {
+                applicants = readApplicants(getConnection(JDBC_URL_READ_OPTIONS));
+            } else {
+                try (Connection connection = openConnection(filePath, JDBC_URL_READ_OPTIONS)) {
+                    applicants = readApplicants(connection);
+                }
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database file " + filePath + ": " + e);
+            if (filePath.equals(this.filePath)) {
+                closeConnection();
+            }
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        try {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toAddressBook(applicants);
+            if (filePath.equals(this.filePath)) {
+                recordPersisted(applicants, getProfilePicturePaths(addressBook));
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the rows of the database file of this storage are updated incrementally. Every row of other files is
+     * rewritten every time.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Applicant> applicants = new ArrayList<>(addressBook.getPersonList());
+        List<String> profilePicturePaths = getProfilePicturePaths(addressBook);
+        boolean isIncremental = filePath.equals(this.filePath) && persistedRows != null;
+        FileUtil.createParentDirsOfFile(filePath);
+        boolean isNewFile = !Files.exists(filePath);
+        try {
+            if (filePath.equals(this.filePath)) {
+                write(getConnection(""), applicants, profilePicturePaths, isIncremental);
+            } else {
+                try (Connection connection = openConnection(filePath, "")) {
+                    write(connection, applicants, profilePicturePaths, false);
+                }
+            }
+        } catch (SQLException e) {
+            if (filePath.equals(this.filePath)) {
+                // the rows in the file are unknown after a failed transaction, so the next save rewrites them all
+                persistedRows = null;
+                closeConnection();
+            }
+            throw new IOException(e);
+        }
+
+        if (isNewFile && durability == SaveDurability.FSYNC_DIR) {
+            FileUtil.syncParentDir(filePath);
+        }
+        if (filePath.equals(this.filePath)) {
+            if (!isIncremental) {
+                recordPersisted(applicants, profilePicturePaths);
+            }
+        }
+    }
+
+    private static List<Applicant> readApplicants(Connection connection) throws SQLException, IllegalValueException {
+        createSchema(connection);
+        ParallelApplicantConverter converter = new ParallelApplicantConverter();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_ALL)) {
+            while (rows.next()) {
+                converter.add(toJsonAdaptedApplicant(rows));
+            }
+        }
+        connection.commit();
+        return converter.finish();
+    }
+
+    /**
+     * Writes the rows of {@code applicants}, whose profile picture paths are {@code profilePicturePaths}, in a single
+     * transaction, and syncs the database file unless no durability is required. Only the rows of the applicants
+     * changed since the last save are written if {@code isIncremental}.
+     */
+    private void write(Connection connection, List<Applicant> applicants, List<String> profilePicturePaths,
+                       boolean isIncremental) throws SQLException {
+        try {
+            createSchema(connection);
+            if (isIncremental) {
+                writeChanges(connection, applicants, profilePicturePaths);
+            } else {
+                writeAll(connection, applicants, profilePicturePaths);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+
+        if (durability != SaveDurability.NONE) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SYNC);
+            }
+        }
+    }
+
+    /**
+     * Replaces every row with the rows of {@code applicants}, whose profile picture paths are
+     * {@code profilePicturePaths}.
+     */
+    private void writeAll(Connection connection, List<Applicant> applicants, List<String> profilePicturePaths)
+            throws SQLException {
+        try (Statement statement = connection.createStatement();
+                PreparedStatement upsert = connection.prepareStatement(UPSERT)) {
+            statement.executeUpdate(DELETE_ALL);
+            for (int i = 0; i < applicants.size(); i++) {
+                addUpsert(upsert, applicants.get(i), profilePicturePaths.get(i), i);
+            }
+            upsert.executeBatch();
+        }
+    }
+
+    /**
+     * Upserts the rows of the applicants added or changed since the last save, and deletes the rows of the applicants
+     * removed since then. If the applicants that were kept are no longer in the order of their rows, every row is
+     * given the position of its applicant in {@code applicants}. The profile picture paths of {@code applicants} are
+     * {@code profilePicturePaths}.
+     */
+    private void writeChanges(Connection connection, List<Applicant> applicants, List<String> profilePicturePaths)
+            throws SQLException {
+        boolean isOrderKept = isOrderKept(applicants);
+        Map<UUID, PersistedRow> rows = new HashMap<>();
+        int position = isOrderKept ? nextPosition : 0;
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT);
+                PreparedStatement updatePosition = connection.prepareStatement(UPDATE_POSITION);
+                PreparedStatement delete = connection.prepareStatement(DELETE)) {
+            for (int i = 0; i < applicants.size(); i++) {
+                Applicant applicant = applicants.get(i);
+                String profilePicturePath = profilePicturePaths.get(i);
+                PersistedRow persistedRow = persistedRows.get(applicant.getId());
+                boolean isStored = persistedRow != null && !rows.containsKey(applicant.getId());
+                int rowPosition = isOrderKept && isStored ? persistedRow.position : position++;
+                if (!isStored || !persistedRow.isRowOf(applicant, profilePicturePath)) {
+                    addUpsert(upsert, applicant, profilePicturePath, rowPosition);
+                } else if (rowPosition != persistedRow.position) {
+                    updatePosition.setInt(1, rowPosition);
+                    updatePosition.setObject(2, applicant.getId());
+                    updatePosition.addBatch();
+                }
+                rows.put(applicant.getId(), new PersistedRow(applicant, profilePicturePath, rowPosition));
+            }
+            for (UUID id : persistedRows.keySet()) {
+                if (!rows.containsKey(id)) {
+                    delete.setObject(1, id);
+                    delete.addBatch();
+                }
+            }
+            delete.executeBatch();
+            updatePosition.executeBatch();
+            upsert.executeBatch();
+        }
+        persistedRows = rows;
+        nextPosition = position;
+    }
+
+    /**
+     * Returns true if the applicants in {@code applicants} that have rows are in the order of their rows, and every
+     * applicant without a row comes after all of them, so that the rows need not be reordered.
+     */
+    private boolean isOrderKept(List<Applicant> applicants) {
+        int lastPosition = -1;
+        boolean hasNewApplicant = false;
+        for (Applicant applicant : applicants) {
+            PersistedRow persistedRow = persistedRows.get(applicant.getId());
+            if (persistedRow == null) {
+                hasNewApplicant = true;
+            } else if (hasNewApplicant || persistedRow.position <= lastPosition) {
+                return false;
+            } else {
+                lastPosition = persistedRow.position;
+            }
+        }
+        return true;
+    }
+
+    private static void addUpsert(PreparedStatement upsert, Applicant applicant, String profilePicturePath,
+                                  int position) throws SQLException {
+        upsert.setObject(1, applicant.getId());
+        upsert.setInt(2, position);
+        upsert.setString(3, applicant.getName().fullName);
+        upsert.setString(4, applicant.getPhone().value);
+        upsert.setString(5, applicant.getEmail().value);
+        upsert.setString(6, applicant.getJobPosition().jobPosition);
+        upsert.setString(7, applicant.getStatus().value);
+        upsert.setString(8, applicant.getAddress().value);
+        upsert.setObject(9, applicant.getAddedTime());
+        // tag names are alphanumeric, so they never contain the separator
+        upsert.setString(10, applicant.getTags().stream().map(tag -> tag.tagName)
+                .collect(Collectors.joining(TAG_SEPARATOR)));
+        upsert.setString(11, applicant.getRating().value);
+        upsert.setString(12, profilePicturePath);
+        upsert.addBatch();
+    }
+
+    private static JsonAdaptedApplicant toJsonAdaptedApplicant(ResultSet row) throws SQLException {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        String tagNames = row.getString("tags");
+        if (!tagNames.isEmpty()) {
+            for (String tagName : tagNames.split(TAG_SEPARATOR)) {
+                tags.add(new JsonAdaptedTag(tagName));
+            }
+        }
+        return new JsonAdaptedApplicant(row.getObject("id", UUID.class).toString(), row.getString("name"),
+                row.getString("phone"), row.getString("email"), row.getString("job_position"),
+                row.getString("status"), row.getString("address"), row.getObject("added_time", LocalDateTime.class),
+                tags, row.getString("rating"), row.getString("profile_picture_path"));
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Returns the open connection to the database file of this storage, opening it with the JDBC URL options
+     * {@code options} if it is not open.
+     */
+    private Connection getConnection(String options) throws SQLException {
+        if (connection == null) {
+            connection = openConnection(filePath, options);
+        }
+        return connection;
+    }
+
+    private Connection openConnection(Path filePath, String options) throws SQLException {
+        String durabilityOptions = durability != SaveDurability.NONE ? JDBC_URL_DURABLE_OPTIONS : "";
+        Connection connection = DriverManager.getConnection(getJdbcUrl(filePath) + durabilityOptions + options);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    /**
+     * Closes the connection to the database file of this storage, after which the file is reopened on the next read
+     * or save.
+     */
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database file " + filePath + ": " + e);
+        }
+        connection = null;
+    }
+
+    /**
+     * Returns the JDBC URL of the database stored in {@code filePath}, which H2 names by leaving out
+     * {@link #FILE_EXTENSION}.
+     */
+    private static String getJdbcUrl(Path filePath) {
+        String path = filePath.toAbsolutePath().toString();
+        if (path.endsWith(FILE_EXTENSION)) {
+            path = path.substring(0, path.length() - FILE_EXTENSION.length());
+        }
+        return JDBC_URL_PREFIX + path;
+    }
+
+    private void recordPersisted(List<Applicant> applicants, List<String> profilePicturePaths) {
+        persistedRows = new HashMap<>();
+        for (int i = 0; i < applicants.size(); i++) {
+            persistedRows.put(applicants.get(i).getId(),
+                    new PersistedRow(applicants.get(i), profilePicturePaths.get(i), i));
+        }
+        nextPosition = applicants.size();
+    }
+
+    /**
+     * Returns the profile picture paths of the applicants of {@code addressBook}, in list order.
+     */
+    private static List<String> getProfilePicturePaths(ReadOnlyAddressBook addressBook) {
+        List<String> profilePicturePaths = new ArrayList<>(addressBook.getPersonList().size());
+        for (int i = 0; i < addressBook.getPersonList().size(); i++) {
+            profilePicturePaths.add(addressBook.getProfilePicturePath(i));
+        }
+        return profilePicturePaths;
+    }
+
+    /**
+     * The applicant stored in a row as last read or saved, with its position and profile picture path at that time.
+     */
+    private static class PersistedRow {
+        private final Applicant applicant;
+        private final String profilePicturePath;
+        private final int position;
+
+        PersistedRow(Applicant applicant, String profilePicturePath, int position) {
+            this.applicant = applicant;
+            this.profilePicturePath = profilePicturePath;
+            this.position = position;
+        }
+
+        /**
+         * Returns true if the row still holds the data of {@code applicant}, with {@code profilePicturePath} as its
+         * profile picture path. Profile picture paths are changed in place, so they are compared separately.
+         */
+        boolean isRowOf(Applicant applicant, String profilePicturePath) {
+            return this.applicant == applicant && this.profilePicturePath.equals(profilePicturePath);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save requested before this call has been written to storage.
+     *
+     * @throws IOException if one of these saves failed. The failure is also passed to the save failure handler.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is passed the cause of every address book save that fails after the save was requested,
+     * e.g. when saves are written in the background. The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +16,12 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The modification version of the last address book read or saved is recorded, and saving the same version to the
+ * same file again is skipped.
+ * <p>
+ * In asynchronous mode, address books are saved by taking a snapshot and writing it on a background writer thread,
+ * which coalesces bursts of saves into one write of the latest snapshot. Failed writes are then reported to the
+ * handler set by {@link #setSaveFailureHandler(Consumer)}, and {@link #flushAddressBook()} waits for pending writes.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +29,32 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The file and modification version of the address book data last read from or written to storage
+    private Path persistedFilePath;
+    private long persistedVersion;
+
+    // Null in synchronous mode
+    private final AsyncSaveWorker saveWorker;
+    private volatile Consumer<IOException> saveFailureHandler = unused -> {};
+
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which saves address books synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     *
+     * @param isAsynchronous whether address books are saved on a background writer thread.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isAsynchronous) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveWorker = isAsynchronous ? new AsyncSaveWorker(addressBookStorage, this::handleSaveFailure) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,7 +90,9 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        addressBook.ifPresent(readAddressBook -> recordPersisted(readAddressBook, filePath));
+        return addressBook;
     }
 
     @Override
@@ -69,10 +100,65 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * {@inheritDoc}
+     * In asynchronous mode, this returns as soon as a snapshot of {@code addressBook} has been queued, and
+     * failures to write it are reported to the save failure handler instead of being thrown.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (isPersisted(addressBook, filePath)) {
+            logger.fine("Skipping write to unchanged data file: " + filePath);
+            return;
+        }
+
+        if (saveWorker != null) {
+            logger.fine("Queueing write to data file: " + filePath);
+            saveWorker.submit(new AddressBookSnapshot(addressBook), filePath);
+        } else {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+        recordPersisted(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saveWorker != null) {
+            saveWorker.flush();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Returns true if {@code addressBook} is already stored in {@code filePath} at its current modification version,
+     * or queued to be.
+     */
+    private synchronized boolean isPersisted(ReadOnlyAddressBook addressBook, Path filePath) {
+        return filePath.equals(persistedFilePath) && addressBook.getVersion() == persistedVersion;
+    }
+
+    private synchronized void recordPersisted(ReadOnlyAddressBook addressBook, Path filePath) {
+        persistedFilePath = filePath;
+        persistedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Forgets what was stored in {@code filePath} after a background write to it failed, so that the next save
+     * writes it again, and reports the failure.
+     */
+    private void handleSaveFailure(Path filePath, IOException cause) {
+        synchronized (this) {
+            if (filePath.equals(persistedFilePath)) {
+                persistedFilePath = null;
+            }
+        }
+        saveFailureHandler.accept(cause);
     }
 
 }
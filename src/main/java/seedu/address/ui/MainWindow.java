@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +17,7 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.applicant.Applicant;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -115,6 +117,8 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // saves may fail on the storage writer thread, so the error is shown on the JavaFX thread
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -203,6 +207,8 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void saveAddressBook() {
         try {
+            // callers change applicants in place, which the model cannot detect by itself
+            logic.markAddressBookModified();
             logic.saveAddressBook();
         } catch (CommandException e) {
             logger.info("An error occurred while saving the applicant's data");
@@ -210,6 +216,16 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Resets the profile picture of {@code applicant}, whose picture file is missing, to the default picture,
+     * without saving the address book.
+     *
+     * @see seedu.address.logic.Logic#resetMissingProfilePicture(Applicant)
+     */
+    public void resetMissingProfilePicture(Applicant applicant) {
+        logic.resetMissingProfilePicture(applicant);
+    }
+
     /**
      * Display error message when selected file's size is too big.
      */
@@ -2,19 +2,22 @@ package seedu.address.ui;
 
 import static seedu.address.ui.UiManager.CUSTOM_PROFILE_PIC_FOLDER;
 import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
+import static seedu.address.ui.UiManager.PROFILE_PIC_THUMBNAIL_SIZE;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Objects;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -23,8 +26,8 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
 import javafx.stage.FileChooser;
-import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ThumbnailUtil;
 import seedu.address.model.applicant.Applicant;
 
 /**
@@ -45,6 +48,12 @@ public class PersonCard extends UiPart<Region> {
     private static final String MAX_FILE_SIZE_STRING = "2MB";
     private MainWindow mainWindow;
     private Applicant applicant;
+    // The profile picture path whose image is displayed, so that rebinding to the same picture does not reload it
+    private String displayedImagePath;
+    // The decoding of the picture to be shown once it is decoded, or null if there is none
+    private ProfileImageCache.ImageRequest imageRequest;
+    // Reused on every rebind, so that binding a card allocates no list
+    private final List<String> tagNames = new ArrayList<>();
     private final Logger logger = LogsCenter.getLogger(PersonCard.class);
     @FXML
     private HBox cardPane;
@@ -72,13 +81,36 @@ public class PersonCard extends UiPart<Region> {
     private ImageView profileImageView;
 
     /**
-     * Creates a {@code PersonCard} to display the given {@code Applicant}'s information.
+     * Creates an empty {@code PersonCard}, to be bound to the applicants to display with {@link #setApplicant}.
+     * The layout is loaded once per card, so a card should be reused for every applicant shown in the same place.
+     */
+    public PersonCard(MainWindow mainWindow) {
+        super(FXML);
+        this.mainWindow = mainWindow;
+
+        // Make ImageView Circular
+        this.setCircularImageView();
+    }
+
+    /**
+     * Factory method to create a {@code PersonCard} with the given {@code Applicant} and index to display.
+     */
+    public static PersonCard createPersonCard(MainWindow mainWindow, Applicant applicant, int displayedIndex) {
+        PersonCard personCard = new PersonCard(mainWindow);
+        personCard.setApplicant(applicant, displayedIndex);
+        return personCard;
+    }
+
+    /**
+     * Displays the given {@code Applicant}'s information in this card, replacing what it displayed before.
+     * Existing labels are updated in place, and the profile picture is only reloaded if its path changed.
      *
      * @param applicant The applicant whose information is to be displayed.
      * @param displayedIndex The index number to be shown beside the applicant's name.
      */
-    private PersonCard(Applicant applicant, int displayedIndex) {
-        super(FXML);
+    public void setApplicant(Applicant applicant, int displayedIndex) {
+        this.applicant = applicant;
+
         id.setText(displayedIndex + ". ");
         name.setText(applicant.getName().fullName);
         phone.setText(applicant.getPhone().value);
@@ -88,65 +120,81 @@ public class PersonCard extends UiPart<Region> {
         status.setText("Status:  " + applicant.getStatus().value);
         addedTime.setText(applicant.getFormattedAddedTime());
         rating.setText("Rating:  " + applicant.getRating().toString());
+        setTags(applicant);
 
-        applicant.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        if (!applicant.getProfilePicturePath().equals(displayedImagePath)) {
+            setProfileImageView(applicant.getProfilePicturePath());
+        }
     }
 
     /**
-     * Factory method to create a {@code PersonCard} with the given {@code Applicant} and index to display.
+     * Shows the tags of {@code applicant} in alphabetical order, reusing the tag labels already shown.
      */
-    public static PersonCard createPersonCard(MainWindow mainWindow, Applicant applicant, int displayedIndex) {
-        PersonCard personCard = new PersonCard(applicant, displayedIndex);
-
-        personCard.mainWindow = mainWindow;
-        personCard.applicant = applicant;
-
-        personCard.setProfileImageView(applicant.getProfilePicturePath());
-
-        return personCard;
+    private void setTags(Applicant applicant) {
+        tagNames.clear();
+        applicant.getTags().forEach(tag -> tagNames.add(tag.tagName));
+        tagNames.sort(Comparator.naturalOrder());
+
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                Label tagLabel = (Label) tagLabels.get(i);
+                if (!tagLabel.getText().equals(tagNames.get(i))) {
+                    tagLabel.setText(tagNames.get(i));
+                }
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
     }
 
     /**
-     * Configures the {@code profileImageView} by cropping the profile picture into a circular shape.
+     * Configures the {@code profileImageView} to show the profile picture at {@code imagePath}.
+     * The default picture is shown until the picture is decoded in the background, and the decoding is cancelled if
+     * this card shows another picture first.
      * @param imagePath is the path where the profile picture is store at.
      */
     private void setProfileImageView(String imagePath) {
-        Image image = fetchImage(imagePath);
-
-        // crop incoming image to fit the imageView
-        this.cropImage(image);
-
-        // Make ImageView Circular
-        this.setCircularImageView();
-
-        profileImageView.setImage(image);
-
-        // save changes in the applicant's profile pic path
-        mainWindow.saveAddressBook();
-    }
+        if (imageRequest != null) {
+            imageRequest.cancel();
+        }
+        showImage(ProfileImageCache.getDefaultImage());
 
-    /**
-     * @return an {@code Image} by fetching from the provided image path.
-     */
-    private Image fetchImage(String imagePath) {
-        File file = new File(imagePath);
-        Image image;
-        if (file.exists()) {
-            image = new Image(file.toURI().toString());
+        imageRequest = ProfileImageCache.requestImage(imagePath, this::showImage);
+        if (imageRequest != null) {
+            displayedImagePath = imagePath;
         } else {
             // file doesn't exist if
             // the applicant profile picture got corrupted
             // OR
             // the applicant profile picture is the default one
-            this.applicant.setProfilePicturePath(DEFAULT_PROFILE_PIC);
-            InputStream profilePicStream = MainApp.class.getResourceAsStream(DEFAULT_PROFILE_PIC);
-            image = new Image(Objects.requireNonNull(
-                    profilePicStream,
-                    "Default profile picture resource not found: " + DEFAULT_PROFILE_PIC));
+            // Rendering must not write to storage, so the repair is only recorded, and saved with the next save
+            mainWindow.resetMissingProfilePicture(this.applicant);
+            displayedImagePath = DEFAULT_PROFILE_PIC;
         }
-        return image;
+    }
+
+    /**
+     * Stops waiting for the profile picture being decoded, if any, e.g. when this card is no longer displayed.
+     * The picture is requested again when the card is next bound to an applicant.
+     */
+    public void cancelImageLoading() {
+        if (imageRequest != null) {
+            imageRequest.cancel();
+            imageRequest = null;
+            displayedImagePath = null;
+        }
+    }
+
+    /**
+     * Shows {@code image}, cropped to fit the {@code profileImageView}.
+     */
+    private void showImage(Image image) {
+        this.cropImage(image);
+        profileImageView.setImage(image);
     }
 
     /**
@@ -215,6 +263,12 @@ public class PersonCard extends UiPart<Region> {
 
         // Copy the selected picture to profile picture folder
         this.saveProfilePicture(sourcePath, savedFilePath);
+        // Cards show the thumbnail once it is created, while the original is kept for exports
+        ThumbnailUtil.enqueue(savedFilePath, PROFILE_PIC_THUMBNAIL_SIZE);
+
+        // The replaced picture is deleted, so its decoded image is not needed any more
+        ProfileImageCache.invalidate(applicant.getProfilePicturePath());
+        ProfileImageCache.invalidate(CUSTOM_PROFILE_PIC_FOLDER + savedFileName);
 
         // Update the profile picture right away so it feels more responsive
         this.setProfileImageView(CUSTOM_PROFILE_PIC_FOLDER + savedFileName);
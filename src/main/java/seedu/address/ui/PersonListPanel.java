@@ -29,17 +29,30 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Applicant} using a {@code PersonCard}.
+     * Each cell keeps one card, created when it first shows an applicant, and rebinds it to every applicant it
+     * shows after that, so that scrolling does not load a new card for every row. Rebinding a card cancels the
+     * decoding of the picture of the applicant it showed before, if it is still being decoded.
      */
     class PersonListViewCell extends ListCell<Applicant> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Applicant applicant, boolean empty) {
             super.updateItem(applicant, empty);
 
             if (empty || applicant == null) {
+                if (personCard != null) {
+                    // the picture of the applicant shown before is not needed any more
+                    personCard.cancelImageLoading();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(PersonCard.createPersonCard(mainWindow, applicant, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(mainWindow);
+                }
+                personCard.setApplicant(applicant, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,226 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.scene.image.Image;
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LruCache;
+import seedu.address.commons.util.ThumbnailUtil;
+
+/**
+ * Decodes profile pictures, and keeps the decoded images of the most recently displayed pictures, shared by every
+ * card of the application.
+ * <p>
+ * Picture files are decoded in the background, and each decoded image is passed to the cards that requested it,
+ * unless they cancelled their requests first. A picture is decoded once however many cards request it at the same
+ * time, and its decoding is cancelled once no card is waiting for it any more.
+ * <p>
+ * Pictures are cached by path and file modification time, so a file changed on disk is decoded again. The cache is
+ * bounded by the total size of the decoded images, {@link #MAX_DECODED_BYTES}, and evicts the least recently
+ * displayed pictures first. Apart from {@link #invalidate(String)}, the methods of this class must be called on the
+ * JavaFX application thread.
+ */
+public class ProfileImageCache {
+
+    static final long MAX_DECODED_BYTES = 64L * 1024 * 1024; // 64 MB
+
+    // The modification time in the key of the default picture, which is a resource rather than a file
+    private static final long RESOURCE_LAST_MODIFIED = -1;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ProfileImageCache.class);
+
+    // Only decoded images are cached, so that the size of every cached image is known
+    private static final LruCache<Key, Image> images =
+            new LruCache<>(MAX_DECODED_BYTES, ProfileImageCache::getDecodedSize);
+    private static final Map<Key, PendingLoad> pendingLoads = new HashMap<>();
+
+    /**
+     * Requests the decoded image of the picture file at {@code imagePath}.
+     * If the image is cached, it is passed to {@code onLoaded} before this returns. Otherwise, the file is decoded in
+     * the background, and the image is passed to {@code onLoaded} on the JavaFX application thread once it is
+     * decoded, unless the request is cancelled first. {@code onLoaded} is not called if the file cannot be decoded.
+     *
+     * The thumbnail of the picture is decoded instead, if it is up to date.
+     *
+     * @return the request, or null if there is no such file.
+     */
+    public static ImageRequest requestImage(String imagePath, Consumer<Image> onLoaded) {
+        requireAllNonNull(imagePath, onLoaded);
+        File picture = new File(imagePath);
+        if (!picture.isFile()) {
+            return null;
+        }
+
+        File file = ThumbnailUtil.isThumbnailUpToDate(picture.toPath())
+                ? ThumbnailUtil.getThumbnailPath(picture.toPath()).toFile()
+                : picture;
+        Key key = new Key(file.getPath(), file.lastModified());
+        Image image = images.get(key);
+        if (image != null) {
+            onLoaded.accept(image);
+            return new ImageRequest(null, onLoaded);
+        }
+
+        PendingLoad load = pendingLoads.computeIfAbsent(key, unused -> new PendingLoad(key, file));
+        ImageRequest request = new ImageRequest(load, onLoaded);
+        load.requests.add(request);
+        return request;
+    }
+
+    /**
+     * Returns the decoded image of the default profile picture.
+     */
+    public static Image getDefaultImage() {
+        Key key = new Key(DEFAULT_PROFILE_PIC, RESOURCE_LAST_MODIFIED);
+        Image image = images.get(key);
+        if (image == null) {
+            InputStream profilePicStream = MainApp.class.getResourceAsStream(DEFAULT_PROFILE_PIC);
+            image = new Image(Objects.requireNonNull(
+                    profilePicStream,
+                    "Default profile picture resource not found: " + DEFAULT_PROFILE_PIC));
+            images.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Removes every decoded image of the picture file at {@code imagePath} and of its thumbnail, e.g. when the file
+     * is replaced or deleted.
+     */
+    public static void invalidate(String imagePath) {
+        requireNonNull(imagePath);
+        String picturePath = new File(imagePath).getPath();
+        String thumbnailPath = ThumbnailUtil.getThumbnailPath(new File(imagePath).toPath()).toFile().getPath();
+        images.removeIf(key -> key.imagePath.equals(picturePath) || key.imagePath.equals(thumbnailPath));
+    }
+
+    /**
+     * A request for the decoded image of a picture file, which is cancelled once the picture is no longer to be
+     * displayed.
+     */
+    public static class ImageRequest {
+        // Null once the image has been passed on, or the request cancelled
+        private PendingLoad load;
+        private final Consumer<Image> onLoaded;
+
+        private ImageRequest(PendingLoad load, Consumer<Image> onLoaded) {
+            this.load = load;
+            this.onLoaded = onLoaded;
+        }
+
+        /**
+         * Cancels this request, if the image has not been passed on yet.
+         */
+        public void cancel() {
+            if (load != null) {
+                load.cancel(this);
+                load = null;
+            }
+        }
+    }
+
+    /**
+     * A picture file being decoded in the background, for the requests waiting for it.
+     */
+    private static class PendingLoad {
+        private final Key key;
+        private final Image image;
+        private final List<ImageRequest> requests = new ArrayList<>();
+        private boolean isFinished;
+
+        PendingLoad(Key key, File file) {
+            this.key = key;
+            image = new Image(file.toURI().toString(), true);
+            // background loading reports its progress on the JavaFX application thread
+            image.progressProperty().addListener((observable, oldProgress, progress) -> {
+                if (progress.doubleValue() >= 1) {
+                    finish();
+                }
+            });
+            image.errorProperty().addListener((observable, wasError, isError) -> {
+                if (isError) {
+                    finish();
+                }
+            });
+        }
+
+        private void finish() {
+            if (isFinished) {
+                return;
+            }
+            isFinished = true;
+            pendingLoads.remove(key, this);
+            if (image.isError()) {
+                logger.info("Profile picture " + key.imagePath + " could not be decoded: " + image.getException());
+                return;
+            }
+
+            images.put(key, image);
+            for (ImageRequest request : requests) {
+                request.load = null;
+                request.onLoaded.accept(image);
+            }
+            requests.clear();
+        }
+
+        private void cancel(ImageRequest request) {
+            requests.remove(request);
+            if (requests.isEmpty() && !isFinished) {
+                isFinished = true;
+                pendingLoads.remove(key, this);
+                image.cancel();
+            }
+        }
+    }
+
+    private static long getDecodedSize(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * The path and modification time of a picture file.
+     */
+    private static class Key {
+        private final String imagePath;
+        private final long lastModified;
+
+        Key(String imagePath, long lastModified) {
+            this.imagePath = imagePath;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key otherKey = (Key) other;
+            return imagePath.equals(otherKey.imagePath) && lastModified == otherKey.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(imagePath, lastModified);
+        }
+    }
+}
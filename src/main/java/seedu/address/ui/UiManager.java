@@ -20,6 +20,8 @@ public class UiManager implements Ui {
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
     public static final String DEFAULT_PROFILE_PIC = "/images/profile_photos/default_profile_photo.png";
     public static final String CUSTOM_PROFILE_PIC_FOLDER = "./data/profile_photos/";
+    // Twice the size of the profile picture in a person card, so that it stays sharp on high-density screens
+    public static final int PROFILE_PIC_THUMBNAIL_SIZE = 160;
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/recruitTrack.png";
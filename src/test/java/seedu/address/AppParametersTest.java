@@ -39,10 +39,25 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validMigrationTargetPath_success() {
+        parametersStub.namedParameters.put("migrate", "addressbook.mv.db");
+        expected.setMigrationTargetPath(Paths.get("addressbook.mv.db"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidMigrationTargetPath_success() {
+        parametersStub.namedParameters.put("migrate", "a\0");
+        expected.setMigrationTargetPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", migrationTargetPath=" + appParameters.getMigrationTargetPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +81,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different migration target path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setMigrationTargetPath(Paths.get("addressbook.mv.db"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileDeletionQueueTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void enqueue_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FileDeletionQueue.enqueue(null));
+    }
+
+    @Test
+    public void enqueue_existingFiles_deletesFilesBeforeFlushReturns() throws IOException {
+        Path first = Files.createFile(testFolder.resolve("first.png"));
+        Path second = Files.createFile(testFolder.resolve("second.png"));
+
+        FileDeletionQueue.enqueue(first);
+        FileDeletionQueue.enqueue(second);
+        FileDeletionQueue.flush();
+
+        assertFalse(Files.exists(first));
+        assertFalse(Files.exists(second));
+    }
+
+    @Test
+    public void enqueue_missingFile_skipsFileAndKeepsDeleting() throws IOException {
+        Path existing = Files.createFile(testFolder.resolve("existing.png"));
+
+        FileDeletionQueue.enqueue(testFolder.resolve("missing.png"));
+        FileDeletionQueue.enqueue(existing);
+        FileDeletionQueue.flush();
+
+        assertFalse(Files.exists(existing));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,53 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacedAndBackedUp() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "old"), SaveDurability.FSYNC_DIR, true);
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "new"), SaveDurability.NONE, true);
+        assertEquals("new", Files.readString(file));
+        assertEquals("old", Files.readString(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "newer"),
+                SaveDurability.FSYNC_FILE, true);
+        assertEquals("newer", Files.readString(file));
+        assertEquals("new", Files.readString(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, tempFile -> {
+            Files.writeString(tempFile, "half");
+            throw new IOException("disk full");
+        }, SaveDurability.FSYNC_FILE, true));
+        assertEquals("old", Files.readString(file));
+        assertFalse(Files.exists(testFolder.resolve("file.json" + FileUtil.TEMP_FILE_SUFFIX)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerAndCleanupFail_writerFailureThrown() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        IOException writerFailure = new IOException("disk full");
+
+        // a temporary file left as a non-empty directory cannot be deleted
+        try {
+            FileUtil.writeAtomically(file, tempFile -> {
+                Files.createDirectories(tempFile.resolve("child"));
+                throw writerFailure;
+            }, SaveDurability.NONE, false);
+            fail();
+        } catch (IOException e) {
+            assertSame(writerFailure, e);
+            assertEquals(1, e.getSuppressed().length);
+        }
+        assertFalse(Files.exists(file));
+    }
+
 }
@@ -0,0 +1,73 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    // Each value weighs its own length
+    private final LruCache<String, String> cache = new LruCache<>(10, String::length);
+
+    @Test
+    public void put_withinMaxWeight_keepsAll() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbbbb");
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("bbbbbb", cache.get("b"));
+        assertEquals(2, cache.size());
+        assertEquals(10, cache.getTotalWeight());
+    }
+
+    @Test
+    public void put_overMaxWeight_evictsLeastRecentlyUsed() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        // getting a value makes it the most recently used
+        cache.get("a");
+
+        cache.put("c", "cccc");
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("cccc", cache.get("c"));
+        assertEquals(8, cache.getTotalWeight());
+    }
+
+    @Test
+    public void put_heavierThanCache_notKept() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbbbbbbbbb");
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+        assertEquals("aa", cache.get("a"));
+        assertEquals(2, cache.getTotalWeight());
+    }
+
+    @Test
+    public void removeAndRemoveIf_removesValues() {
+        cache.put("a1", "aa");
+        cache.put("a2", "aa");
+        cache.put("b", "bbb");
+
+        cache.remove("b");
+        assertNull(cache.get("b"));
+        assertEquals(4, cache.getTotalWeight());
+
+        cache.removeIf(key -> key.startsWith("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+    }
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ThumbnailUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getThumbnailPath_picture_inThumbnailFolder() {
+        Path picture = testFolder.resolve("photo.jpg");
+        assertEquals(testFolder.resolve(ThumbnailUtil.THUMBNAIL_FOLDER).resolve("photo.jpg.png"),
+                ThumbnailUtil.getThumbnailPath(picture));
+    }
+
+    @Test
+    public void createThumbnail_widePicture_centerCroppedAndScaledDown() throws Exception {
+        // red, green and blue thirds, so only the green middle is left after cropping to a square
+        Path picture = writePicture("wide.png", 900, 300);
+        ThumbnailUtil.createThumbnail(picture, 160);
+
+        BufferedImage thumbnail = ImageIO.read(ThumbnailUtil.getThumbnailPath(picture).toFile());
+        assertEquals(160, thumbnail.getWidth());
+        assertEquals(160, thumbnail.getHeight());
+        assertEquals(Color.GREEN.getRGB(), thumbnail.getRGB(0, 80));
+        assertEquals(Color.GREEN.getRGB(), thumbnail.getRGB(159, 80));
+        assertTrue(ThumbnailUtil.isThumbnailUpToDate(picture));
+    }
+
+    @Test
+    public void createThumbnail_smallPicture_notScaledUp() throws Exception {
+        Path picture = writePicture("small.png", 90, 60);
+        ThumbnailUtil.createThumbnail(picture, 160);
+
+        BufferedImage thumbnail = ImageIO.read(ThumbnailUtil.getThumbnailPath(picture).toFile());
+        assertEquals(60, thumbnail.getWidth());
+        assertEquals(60, thumbnail.getHeight());
+    }
+
+    @Test
+    public void createThumbnail_notPicture_throwsIoException() throws Exception {
+        Path picture = testFolder.resolve("notPicture.png");
+        Files.write(picture, "not a picture".getBytes());
+        assertThrows(IOException.class, () -> ThumbnailUtil.createThumbnail(picture, 160));
+        assertFalse(Files.exists(ThumbnailUtil.getThumbnailPath(picture)));
+    }
+
+    @Test
+    public void isThumbnailUpToDate_pictureChangedAfterThumbnail_returnsFalse() throws Exception {
+        Path picture = writePicture("changed.png", 300, 300);
+        assertFalse(ThumbnailUtil.isThumbnailUpToDate(picture));
+
+        ThumbnailUtil.createThumbnail(picture, 160);
+        FileTime thumbnailTime = Files.getLastModifiedTime(ThumbnailUtil.getThumbnailPath(picture));
+        Files.setLastModifiedTime(picture, FileTime.fromMillis(thumbnailTime.toMillis() + 1000));
+        assertFalse(ThumbnailUtil.isThumbnailUpToDate(picture));
+    }
+
+    @Test
+    public void enqueueAndEnqueueDeletion_inOrder() throws Exception {
+        Path picture = writePicture("queued.png", 400, 200);
+        ThumbnailUtil.enqueue(picture, 160);
+        ThumbnailUtil.flush();
+        assertTrue(ThumbnailUtil.isThumbnailUpToDate(picture));
+
+        ThumbnailUtil.enqueue(picture, 160);
+        ThumbnailUtil.enqueueDeletion(picture);
+        ThumbnailUtil.flush();
+        assertFalse(Files.exists(ThumbnailUtil.getThumbnailPath(picture)));
+    }
+
+    @Test
+    public void enqueue_missingPicture_skipped() {
+        Path picture = testFolder.resolve("missing.png");
+        ThumbnailUtil.enqueue(picture, 160);
+        ThumbnailUtil.flush();
+        assertFalse(Files.exists(ThumbnailUtil.getThumbnailPath(picture)));
+    }
+
+    /**
+     * Writes a picture of the given size, made of red, green and blue vertical thirds.
+     */
+    private Path writePicture(String fileName, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 3, height);
+        graphics.setColor(Color.GREEN);
+        graphics.fillRect(width / 3, 0, width / 3, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(2 * width / 3, 0, width - 2 * width / 3, height);
+        graphics.dispose();
+
+        Path picture = testFolder.resolve(fileName);
+        ImageIO.write(image, "png", picture.toFile());
+        return picture;
+    }
+}
@@ -12,6 +12,8 @@ import static seedu.address.logic.commands.CommandTestUtil.STATUS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDED_TIME_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -85,6 +87,42 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void resetMissingProfilePicture_everyApplicant_savedOnceWithNextCommand() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        for (Applicant applicant : new Applicant[] {new PersonBuilder(AMY).build(), new PersonBuilder(BOB).build()}) {
+            applicant.setProfilePicturePath(temporaryFolder.resolve("missing.png").toString());
+            model.addPerson(applicant);
+        }
+        logic = new LogicManager(model, storage);
+
+        // displaying every applicant, as scrolling through the list does, writes nothing
+        for (int i = 0; i < 3; i++) {
+            for (Applicant applicant : logic.getFilteredPersonList()) {
+                logic.resetMissingProfilePicture(applicant);
+            }
+        }
+        assertEquals(0, saveCount[0]);
+        for (Applicant applicant : logic.getFilteredPersonList()) {
+            assertEquals(DEFAULT_PROFILE_PIC, applicant.getProfilePicturePath());
+        }
+
+        // the repairs are saved once, with the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.ApplicantSummary;
+import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.Rating;
 import seedu.address.model.applicant.Status;
 import seedu.address.testutil.PersonBuilder;
@@ -146,11 +149,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Applicant> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteAllProfilePicture() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void markAddressBookModified() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Applicant target, Applicant editedApplicant) {
             throw new AssertionError("This method should not be called.");
@@ -171,11 +184,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(List<IdentifierPredicate> predicates, boolean isMatchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Applicant setStatus(Applicant applicant, Status status) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(List<Applicant> targets, List<Applicant> editedApplicants) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Applicant> setStatusBulk(List<Applicant> targets, Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int getFilteredPersonListSize() {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +214,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ApplicantSummary summarize(List<IdentifierPredicate> predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -2,6 +2,9 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.Messages.MESSAGE_NO_RESULT;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Collections;
@@ -14,6 +17,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.applicant.IdentifierPredicate;
 import seedu.address.model.applicant.NameMatchesKeywordPredicate;
+import seedu.address.model.applicant.StatusMatchesPredicate;
 
 public class SummaryCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -46,4 +50,20 @@ public class SummaryCommandTest {
         assertNotEquals(findFirstCommand, findSecondCommand);
     }
 
+    @Test
+    public void execute_matchingApplicants_summarizedAndShown() {
+        List<IdentifierPredicate> predicates = Collections.singletonList(new StatusMatchesPredicate("offer given"));
+        int totalSize = model.getAddressBook().getPersonList().size();
+        String expectedMessage = String.format(SummaryCommand.MESSAGE_SUCCESS, 1, totalSize,
+                "Job Positions -> \n[Frontend SWE: 1] \nStatuses -> \n[Offer Given: 1]");
+        expectedModel.updateFilteredPersonList(predicates, true);
+
+        assertCommandSuccess(new SummaryCommand(predicates), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingApplicants_throwsCommandExceptionAndKeepsList() {
+        List<IdentifierPredicate> predicates = Collections.singletonList(new StatusMatchesPredicate("Hired"));
+        assertCommandFailure(new SummaryCommand(predicates), model, MESSAGE_NO_RESULT);
+    }
 }
@@ -78,6 +78,28 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_afterModifications_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        assertTrue(addedVersion > initialVersion);
+
+        // failed modifications and reads do not change the version
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        addressBook.hasPerson(ALICE);
+        assertEquals(addedVersion, addressBook.getVersion());
+
+        // a copy shares the version of the original until either is modified
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addedVersion, copy.getVersion());
+        copy.removePerson(ALICE);
+        addressBook.markModified();
+        assertTrue(copy.getVersion() > addedVersion);
+        assertTrue(addressBook.getVersion() > addedVersion);
+        assertFalse(copy.getVersion() == addressBook.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -104,6 +126,11 @@ public class AddressBookTest {
         public ObservableList<Applicant> getPersonList() {
             return applicants;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
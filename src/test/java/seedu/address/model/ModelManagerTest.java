@@ -7,15 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.IdentifierPredicate;
+import seedu.address.model.applicant.JobPositionMatchesPredicate;
 import seedu.address.model.applicant.NameContainsKeywordsPredicate;
+import seedu.address.model.applicant.Status;
+import seedu.address.model.applicant.StatusMatchesPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -88,6 +95,42 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void setStatusBulk_personsInAddressBook_updatesStatusAndKeepsIds() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Status status = new Status("Rejected");
+
+        List<Applicant> editedApplicants = modelManager.setStatusBulk(Arrays.asList(BENSON, ALICE), status);
+
+        assertEquals(Arrays.asList(editedApplicants.get(1), editedApplicants.get(0)),
+                modelManager.getFilteredPersonList());
+        assertEquals(status, editedApplicants.get(0).getStatus());
+        assertEquals(BENSON.getId(), editedApplicants.get(0).getId());
+        assertEquals(status, editedApplicants.get(1).getStatus());
+        assertEquals(ALICE.getId(), editedApplicants.get(1).getId());
+    }
+
+    @Test
+    public void updateFilteredPersonList_identifierPredicates_filtersAndFollowsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        List<IdentifierPredicate> predicates = Arrays.asList(new StatusMatchesPredicate("Resume Screening"),
+                new JobPositionMatchesPredicate("frontend engineer"));
+
+        modelManager.updateFilteredPersonList(predicates, true);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(predicates, false);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Applicant rejectedCarl = modelManager.setStatus(CARL, new Status("Rejected"));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        modelManager.setStatus(rejectedCarl, new Status("Resume Screening"));
+        assertEquals(2, modelManager.getFilteredPersonListSize());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
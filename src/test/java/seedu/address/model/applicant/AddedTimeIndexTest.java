@@ -0,0 +1,68 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AddedTimeIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final AddedTimeIndex index = new AddedTimeIndex();
+    private final List<Applicant> applicants = new ArrayList<>();
+
+    @Test
+    public void beforeAndAfter_appendedInTimeOrder_countsMatchRange() {
+        for (int day = 0; day < 50; day++) {
+            add(day);
+            // applicants added at the same time share a bucket
+            add(day);
+        }
+        assertCountsMatchRange();
+    }
+
+    @Test
+    public void beforeAndAfter_randomChanges_countsMatchRange() {
+        Random random = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            if (applicants.isEmpty() || random.nextInt(3) > 0) {
+                add(random.nextInt(100));
+            } else {
+                index.remove(applicants.remove(random.nextInt(applicants.size())));
+            }
+            if (i % 50 == 0) {
+                assertCountsMatchRange();
+            }
+        }
+        assertCountsMatchRange();
+
+        index.setAll(applicants.subList(0, applicants.size() / 2));
+        applicants.subList(applicants.size() / 2, applicants.size()).clear();
+        assertCountsMatchRange();
+    }
+
+    private void add(int day) {
+        Applicant applicant = new PersonBuilder(ALICE).withAddedTime(START.plusDays(day)).build();
+        applicants.add(applicant);
+        index.add(applicant);
+    }
+
+    private void assertCountsMatchRange() {
+        for (int day = -1; day <= 101; day++) {
+            LocalDateTime time = START.plusDays(day);
+            long before = applicants.stream().filter(applicant -> applicant.getAddedTime().isBefore(time)).count();
+            long after = applicants.stream().filter(applicant -> applicant.getAddedTime().isAfter(time)).count();
+            assertEquals(before, index.before(time).size());
+            assertEquals(after, index.after(time).size());
+            assertEquals(before, index.before(time).stream().count());
+        }
+    }
+}
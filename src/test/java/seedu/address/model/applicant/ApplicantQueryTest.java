@@ -0,0 +1,128 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ApplicantQueryTest {
+
+    private final UniqueApplicantList applicants = new UniqueApplicantList();
+
+    @BeforeEach
+    public void setUp() {
+        applicants.loadPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+    }
+
+    @Test
+    public void execute_matchAllWithIndexedPredicate_readsCandidatesFromIndex() {
+        ApplicantQuery query = applicants.compileQuery(Arrays.asList(
+                new NameMatchesKeywordPredicate("carl kurz"),
+                new StatusMatchesPredicate("resume screening")), true);
+
+        assertEquals(Collections.singletonList(CARL), query.execute());
+        assertTrue(query.explain().contains("candidate(s) from the index"));
+        // the indexed predicate is planned before the unindexed one
+        assertTrue(query.explain().contains("1. [index, 3 match(es)]"));
+        assertTrue(query.explain().contains("2. [test]"));
+    }
+
+    @Test
+    public void execute_matchAll_returnsMatchesInListOrder() {
+        ApplicantQuery query = applicants.compileQuery(Arrays.asList(
+                new AfterDatePredicate(LocalDateTime.of(2025, 1, 1, 0, 0)),
+                new StatusMatchesPredicate("Resume Screening")), true);
+
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL), query.execute());
+    }
+
+    @Test
+    public void execute_afterSorting_returnsMatchesInNewListOrder() {
+        applicants.sortPersonsByDescendingOrder(PREFIX_NAME);
+        ApplicantQuery query = applicants.compileQuery(Collections.singletonList(
+                new StatusMatchesPredicate("Resume Screening")), true);
+
+        assertEquals(Arrays.asList(DANIEL, CARL, ALICE), query.execute());
+    }
+
+    @Test
+    public void execute_matchAnyAllIndexed_returnsUnionInListOrder() {
+        ApplicantQuery query = applicants.compileQuery(Arrays.asList(
+                new EmailMatchesKeywordPredicate("WERNER@example.com"),
+                new PhoneMatchesKeywordPredicate(BENSON.getPhone().value),
+                new JobPositionMatchesPredicate("frontend engineer")), false);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, ELLE), query.execute());
+        assertTrue(query.explain().contains("union"));
+    }
+
+    @Test
+    public void execute_matchAnyWithUnindexedPredicate_scansList() {
+        ApplicantQuery query = applicants.compileQuery(Arrays.asList(
+                new NameMatchesKeywordPredicate("Elle Meyer"),
+                new StatusMatchesPredicate("technical interview round 1")), false);
+
+        assertEquals(Arrays.asList(BENSON, ELLE), query.execute());
+        assertTrue(query.explain().contains("scanning all 5 applicants"));
+    }
+
+    @Test
+    public void execute_noPredicates_matchesAllOrNothing() {
+        List<IdentifierPredicate> noPredicates = Collections.emptyList();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE),
+                applicants.compileQuery(noPredicates, true).execute());
+        assertTrue(applicants.compileQuery(noPredicates, false).execute().isEmpty());
+    }
+
+    @Test
+    public void test_indexedPredicate_answeredFromIndex() {
+        int[] testCount = new int[1];
+        StatusMatchesPredicate countingPredicate = new StatusMatchesPredicate("Resume Screening") {
+            @Override
+            public boolean test(Applicant applicant) {
+                testCount[0]++;
+                return super.test(applicant);
+            }
+        };
+        ApplicantQuery query = applicants.compileQuery(Arrays.asList(
+                new NameMatchesKeywordPredicate("carl kurz"), countingPredicate), true);
+
+        List<Applicant> matches = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            if (query.test(applicant)) {
+                matches.add(applicant);
+            }
+        }
+        assertEquals(Collections.singletonList(CARL), matches);
+        assertEquals(0, testCount[0]);
+    }
+
+    @Test
+    public void test_listChangesAfterCompiling_followsChanges() {
+        ApplicantQuery query = applicants.compileQuery(Collections.singletonList(
+                new StatusMatchesPredicate("Rejected")), true);
+        Applicant rejectedCarl = new Applicant(CARL.getId(), CARL.getName(), CARL.getPhone(), CARL.getEmail(),
+                CARL.getJobPosition(), new Status("Rejected"), CARL.getAddress(), CARL.getAddedTime(),
+                CARL.getTags(), CARL.getRating(), CARL.getProfilePicturePath());
+
+        assertFalse(query.test(CARL));
+        applicants.setPerson(CARL, rejectedCarl);
+
+        assertTrue(query.test(rejectedCarl));
+        assertEquals(Collections.singletonList(rejectedCarl), query.execute());
+    }
+}
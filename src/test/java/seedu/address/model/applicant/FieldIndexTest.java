@@ -0,0 +1,44 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldIndexTest {
+
+    private final FieldIndex statusIndex = new FieldIndex(applicant -> applicant.getStatus().value);
+
+    @Test
+    public void get_absentValue_addsNothing() {
+        statusIndex.add(ALICE);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(statusIndex.get("Unknown status " + i).isEmpty());
+        }
+        assertEquals(1, statusIndex.valueCount());
+    }
+
+    @Test
+    public void get_liveView_reflectsLaterChanges() {
+        Applicant offered = new PersonBuilder(BENSON).withStatus("Offer Extended").build();
+        Set<Applicant> view = statusIndex.get("offer extended");
+        assertTrue(view.isEmpty());
+
+        statusIndex.add(offered);
+        assertEquals(Set.of(offered), view);
+
+        statusIndex.remove(offered);
+        assertTrue(view.isEmpty());
+        // posting sets that become empty are dropped
+        assertEquals(0, statusIndex.valueCount());
+
+        statusIndex.setAll(Set.of(offered));
+        assertTrue(view.contains(offered));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.applicant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class FieldValidatorTest {
+
+    // Strings around the edges of every format, including non-ASCII letters and digits, and line terminators
+    private static final String[] SAMPLES = {
+        "", " ", "  ", "a", "Z", "0", "9", "-", "-1", "-2", "1", "5", "6", "0", "15", "1 ", " 1", "1\n", "-1\n",
+        "Alex Yeoh", "alex  yeoh ", " alex", "alex_yeoh", "alex-yeoh", "R@chel",
+        "\u00DCnal", "Jos\u00E9", "\u0661\u0662\u0663",
+        "123", "12", "1234567890", "12 34", "+6512345678", "\u0661\u0662\u0663\u0664", "\u0663\u0663\u0663",
+        "Blk 30, #06-40", "\tBlk 30", "\nBlk 30", "Blk\n30", "Blk\r30", "Blk\u008530", "Blk\u202830", "Blk\u2029",
+        "Blk\u000B30", "Blk\t30", "\u000BBlk", "\u00A0Blk", "Blk 30 \uD83D\uDE00", "\uD83D\uDE00",
+    };
+
+    @Test
+    public void isAlphanumericWithSpaces_sameAsRegex() {
+        assertSameAsRegex(FieldValidator::isAlphanumericWithSpaces, Name.VALIDATION_REGEX);
+        assertSameAsRegex(FieldValidator::isAlphanumericWithSpaces, Status.VALIDATION_REGEX);
+        assertSameAsRegex(FieldValidator::isAlphanumericWithSpaces, JobPosition.VALIDATION_REGEX);
+        assertSameAsRegex(FieldValidator::isAlphanumericWithSpaces, Tag.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        assertSameAsRegex(test -> FieldValidator.isDigits(test, Phone.MIN_LENGTH), Phone.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isRating_sameAsRegex() {
+        assertSameAsRegex(FieldValidator::isRating, Rating.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isNonBlankLine_sameAsRegex() {
+        assertSameAsRegex(FieldValidator::isNonBlankLine, Address.VALIDATION_REGEX);
+    }
+
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        String[] emails = {"", "a@bc", "a@b", "a.b@c.de", "a..b@cd", ".a@bc", "a.@bc", "a+b_c-d@ex-ample.com",
+            "a@-example.com", "a@example-.com", "a@ex_ample.com", "a@@bc", "a b@cd", "peter_jack@very-very.long"};
+        for (String email : emails) {
+            assertEquals(email.matches(Email.VALIDATION_REGEX), Email.isValidEmail(email), email);
+        }
+    }
+
+    private static void assertSameAsRegex(Predicate<String> validator, String regex) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), validator.test(sample), "\"" + sample + "\" against " + regex);
+        }
+    }
+
+}
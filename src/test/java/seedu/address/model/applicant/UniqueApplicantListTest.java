@@ -3,13 +3,18 @@ package seedu.address.model.applicant;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,6 +25,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.util.Pair;
 import seedu.address.model.applicant.exceptions.DuplicatePersonException;
 import seedu.address.model.applicant.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -53,6 +60,27 @@ public class UniqueApplicantListTest {
         assertTrue(uniqueApplicantList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSamePhoneOnlyInList_returnsTrue() {
+        uniqueApplicantList.add(ALICE);
+        Applicant samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniqueApplicantList.contains(samePhone));
+    }
+
+    @Test
+    public void contains_personWithSameEmailOnlyInList_returnsTrue() {
+        uniqueApplicantList.add(ALICE);
+        Applicant sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertTrue(uniqueApplicantList.contains(sameEmail));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.remove(ALICE);
+        assertFalse(uniqueApplicantList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.add(null));
@@ -108,6 +136,16 @@ public class UniqueApplicantListTest {
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.setPerson(ALICE, BOB);
+        assertFalse(uniqueApplicantList.contains(ALICE));
+        assertTrue(uniqueApplicantList.contains(BOB));
+        uniqueApplicantList.add(ALICE);
+        assertTrue(uniqueApplicantList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniqueApplicantList.add(ALICE);
@@ -115,6 +153,71 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void applyBatch_validEdits_replacesAllTargetsWithOneChange() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.add(CARL);
+        Applicant editedAlice = new PersonBuilder(ALICE).withStatus("Rejected").build();
+        Applicant editedCarl = new PersonBuilder(CARL).withStatus("Rejected").build();
+        int[] changeCount = new int[1];
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Applicant>) change -> changeCount[0]++);
+
+        uniqueApplicantList.applyBatch(Arrays.asList(CARL, ALICE), Arrays.asList(editedCarl, editedAlice));
+
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(editedAlice);
+        expectedUniqueApplicantList.add(BENSON);
+        expectedUniqueApplicantList.add(editedCarl);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void applyBatch_editsSwapIdentities_success() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        Applicant aliceWithBensonEmail = new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).build();
+        Applicant bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+
+        uniqueApplicantList.applyBatch(Arrays.asList(ALICE, BENSON),
+                Arrays.asList(aliceWithBensonEmail, bensonWithAliceEmail));
+
+        assertEquals(Arrays.asList(aliceWithBensonEmail, bensonWithAliceEmail),
+                uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_editsHaveNonUniqueIdentity_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.add(CARL);
+        Applicant aliceWithCarlPhone = new PersonBuilder(ALICE).withPhone(CARL.getPhone().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.applyBatch(
+                Arrays.asList(BENSON, ALICE), Arrays.asList(BENSON, aliceWithCarlPhone)));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueApplicantList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicantList.contains(BENSON));
+        assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.add(ALICE));
+    }
+
+    @Test
+    public void applyBatch_targetNotInList_throwsPersonNotFoundException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniqueApplicantList.applyBatch(
+                Arrays.asList(ALICE, BOB), Arrays.asList(ALICE, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_sameTargetTwice_throwsIllegalArgumentException() {
+        uniqueApplicantList.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> uniqueApplicantList.applyBatch(
+                Arrays.asList(ALICE, ALICE), Arrays.asList(ALICE, BOB)));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.remove(null));
@@ -133,6 +236,60 @@ public class UniqueApplicantListTest {
         assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
     }
 
+    @Test
+    public void removeAll_existingPersons_removesPersonsWithOneChange() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.add(BOB);
+        int[] changeCount = new int[1];
+        uniqueApplicantList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Applicant>) change -> changeCount[0]++);
+
+        uniqueApplicantList.removeAll(Arrays.asList(CARL, BENSON));
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniqueApplicantList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertFalse(uniqueApplicantList.contains(BENSON));
+        uniqueApplicantList.remove(BOB);
+        assertEquals(Collections.singletonList(ALICE), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndKeepsList() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> uniqueApplicantList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueApplicantList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_afterSorting_removesPerson() {
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.sortPersonsByAscendingOrder(PREFIX_NAME);
+        uniqueApplicantList.remove(BENSON);
+        uniqueApplicantList.setPerson(CARL, BOB);
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(ALICE);
+        expectedUniqueApplicantList.add(BOB);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void remove_equalPersonWithDifferentId_removesPerson() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        Applicant aliceCopy = new PersonBuilder(ALICE).build();
+        assertNotEquals(ALICE.getId(), aliceCopy.getId());
+        uniqueApplicantList.remove(aliceCopy);
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(BENSON);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
     @Test
     public void setPersons_nullUniqueApplicantList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicantList.setPersons((UniqueApplicantList) null));
@@ -168,6 +325,163 @@ public class UniqueApplicantListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueApplicantList.setPersons(listWithDuplicateApplicants));
     }
 
+    @Test
+    public void loadPersons_list_replacesOwnListWithProvidedList() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.loadPersons(Arrays.asList(BOB, CARL));
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(BOB);
+        expectedUniqueApplicantList.add(CARL);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+        assertFalse(uniqueApplicantList.contains(ALICE));
+    }
+
+    @Test
+    public void loadPersons_applicantsSharingId_laterApplicantLoadedWithNewId() {
+        Applicant bobWithAliceId = BOB.withId(ALICE.getId());
+        uniqueApplicantList.loadPersons(Arrays.asList(ALICE, bobWithAliceId));
+        List<Applicant> loadedApplicants = uniqueApplicantList.asUnmodifiableObservableList();
+        assertSame(ALICE, loadedApplicants.get(0));
+        assertEquals(BOB, loadedApplicants.get(1));
+        assertNotEquals(ALICE.getId(), loadedApplicants.get(1).getId());
+        assertEquals(0, uniqueApplicantList.positionOf(ALICE));
+        assertEquals(1, uniqueApplicantList.positionOf(loadedApplicants.get(1)));
+
+        // the same id is given on every load
+        UniqueApplicantList reloadedList = new UniqueApplicantList();
+        reloadedList.loadPersons(Arrays.asList(ALICE, bobWithAliceId));
+        assertEquals(loadedApplicants.get(1).getId(), reloadedList.asUnmodifiableObservableList().get(1).getId());
+
+        // removing one of them leaves the position of the other intact
+        uniqueApplicantList.removeAll(List.of(BOB));
+        assertEquals(List.of(ALICE), uniqueApplicantList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueApplicantList.positionOf(ALICE));
+    }
+
+    @Test
+    public void loadPersons_listWithDuplicatePersons_reportsEveryDuplicatePair() {
+        uniqueApplicantList.add(CARL);
+        Applicant sameEmailAsAlice = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        Applicant samePhoneAsBenson = new PersonBuilder(CARL).withPhone(BENSON.getPhone().value).build();
+        List<Applicant> applicants = Arrays.asList(ALICE, BENSON, sameEmailAsAlice, samePhoneAsBenson);
+
+        try {
+            uniqueApplicantList.loadPersons(applicants);
+            fail();
+        } catch (DuplicatePersonException e) {
+            assertEquals(Arrays.asList(new Pair<>(ALICE, sameEmailAsAlice), new Pair<>(BENSON, samePhoneAsBenson)),
+                    e.getDuplicatePairs());
+        }
+
+        // list is left unchanged
+        UniqueApplicantList expectedUniqueApplicantList = new UniqueApplicantList();
+        expectedUniqueApplicantList.add(CARL);
+        assertEquals(expectedUniqueApplicantList, uniqueApplicantList);
+    }
+
+    @Test
+    public void lookUp_statusPredicate_returnsLiveMatchesIgnoringCase() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        Set<Applicant> matches = uniqueApplicantList.lookUp(new StatusMatchesPredicate("resume SCREENING")).get();
+        assertEquals(new HashSet<>(Arrays.asList(ALICE)), matches);
+
+        uniqueApplicantList.add(CARL);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL)), matches);
+
+        Applicant rejectedAlice = new PersonBuilder(ALICE).withStatus("Rejected").build();
+        uniqueApplicantList.setPerson(ALICE, rejectedAlice);
+        assertEquals(new HashSet<>(Arrays.asList(CARL)), matches);
+        assertEquals(new HashSet<>(Arrays.asList(rejectedAlice)),
+                uniqueApplicantList.lookUp(new StatusMatchesPredicate("rejected")).get());
+
+        uniqueApplicantList.loadPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE)), matches);
+    }
+
+    @Test
+    public void lookUp_jobPositionPredicate_returnsMatches() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON)),
+                uniqueApplicantList.lookUp(new JobPositionMatchesPredicate("senior frontend engineer")).get());
+        assertTrue(uniqueApplicantList.lookUp(new JobPositionMatchesPredicate("Frontend")).get().isEmpty());
+    }
+
+    @Test
+    public void lookUp_datePredicates_returnsLiveRangeMatches() {
+        Applicant early = new PersonBuilder(ALICE).withAddedTime(LocalDateTime.of(2025, 1, 1, 9, 0)).build();
+        Applicant middle = new PersonBuilder(BENSON).withAddedTime(LocalDateTime.of(2025, 2, 1, 9, 0)).build();
+        Applicant late = new PersonBuilder(CARL).withAddedTime(LocalDateTime.of(2025, 3, 1, 9, 0)).build();
+        uniqueApplicantList.add(early);
+        uniqueApplicantList.add(middle);
+
+        Set<Applicant> before = uniqueApplicantList.lookUp(
+                new BeforeDatePredicate(LocalDateTime.of(2025, 2, 1, 9, 0))).get();
+        Set<Applicant> after = uniqueApplicantList.lookUp(
+                new AfterDatePredicate(LocalDateTime.of(2025, 1, 1, 9, 0))).get();
+        assertEquals(new HashSet<>(Arrays.asList(early)), before);
+        assertEquals(new HashSet<>(Arrays.asList(middle)), after);
+
+        uniqueApplicantList.add(late);
+        uniqueApplicantList.remove(middle);
+        assertEquals(new HashSet<>(Arrays.asList(early)), before);
+        assertEquals(new HashSet<>(Arrays.asList(late)), after);
+        assertFalse(after.contains(early));
+        assertEquals(1, after.size());
+    }
+
+    @Test
+    public void sortPersonsByAddedTime_sameAddedTime_keepsCurrentOrder() {
+        Applicant early = new PersonBuilder(ALICE).withAddedTime(LocalDateTime.of(2025, 1, 1, 9, 0)).build();
+        Applicant late = new PersonBuilder(CARL).withAddedTime(LocalDateTime.of(2025, 3, 1, 9, 0)).build();
+        Applicant alsoLate = new PersonBuilder(BENSON).withAddedTime(LocalDateTime.of(2025, 3, 1, 9, 0)).build();
+        uniqueApplicantList.add(late);
+        uniqueApplicantList.add(early);
+        uniqueApplicantList.add(alsoLate);
+
+        uniqueApplicantList.sortPersonsByAscendingOrder(PREFIX_ADDED_TIME);
+        assertEquals(Arrays.asList(early, late, alsoLate), uniqueApplicantList.asUnmodifiableObservableList());
+
+        uniqueApplicantList.sortPersonsByDescendingOrder(PREFIX_ADDED_TIME);
+        assertEquals(Arrays.asList(late, alsoLate, early), uniqueApplicantList.asUnmodifiableObservableList());
+
+        // positions are refreshed after sorting
+        uniqueApplicantList.remove(alsoLate);
+        assertEquals(Arrays.asList(late, early), uniqueApplicantList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void summarize_afterAddSetAndRemove_matchesCountedSummary() {
+        uniqueApplicantList.add(ALICE);
+        uniqueApplicantList.add(BENSON);
+        uniqueApplicantList.add(CARL);
+        uniqueApplicantList.setPerson(BENSON, new PersonBuilder(BENSON).withStatus("resume screening").build());
+        uniqueApplicantList.remove(CARL);
+        uniqueApplicantList.add(new PersonBuilder(BOB).withJobPosition("FRONTEND ENGINEER").build());
+
+        List<List<IdentifierPredicate>> predicateLists = Arrays.asList(
+                Collections.emptyList(),
+                Arrays.asList(new StatusMatchesPredicate("Resume Screening")),
+                Arrays.asList(new JobPositionMatchesPredicate("frontend engineer")),
+                Arrays.asList(new JobPositionMatchesPredicate("frontend engineer"),
+                        new StatusMatchesPredicate("resume screening")),
+                Arrays.asList(new NameMatchesKeywordPredicate("Alice Pauline")));
+        for (List<IdentifierPredicate> predicates : predicateLists) {
+            ApplicantQuery query = uniqueApplicantList.compileQuery(predicates, true);
+            assertEquals(ApplicantSummary.of(query.execute()), uniqueApplicantList.summarize(predicates));
+        }
+
+        uniqueApplicantList.loadPersons(Arrays.asList(CARL));
+        assertEquals(ApplicantSummary.of(Arrays.asList(CARL)), uniqueApplicantList.summarize(Collections.emptyList()));
+    }
+
+    @Test
+    public void lookUp_unindexedPredicate_returnsEmptyOptional() {
+        uniqueApplicantList.add(ALICE);
+        assertFalse(uniqueApplicantList.lookUp(new NameMatchesKeywordPredicate("Alice Pauline")).isPresent());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,85 @@
+package seedu.address.model.applicant;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the cost of validating the fields of one applicant record with {@link String#matches(String)} on the
+ * {@code VALIDATION_REGEX} of each field, as before, and with the {@code isValid} methods of the fields.
+ * <p>
+ * This is not a test, and is not run by the test task. Run it with the test classpath, optionally passing the
+ * number of records to validate per round, which defaults to 1000000.
+ */
+public class ValidationBenchmark {
+
+    private static final int DEFAULT_RECORD_COUNT = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final String[][] RECORD = {
+        {"Alex Yeoh", Name.VALIDATION_REGEX},
+        {"87438807", Phone.VALIDATION_REGEX},
+        {"alexyeoh@example.com", Email.VALIDATION_REGEX},
+        {"Blk 30 Geylang Street 29, #06-40", Address.VALIDATION_REGEX},
+        {"Software Engineer", JobPosition.VALIDATION_REGEX},
+        {"Interview", Status.VALIDATION_REGEX},
+        {"4", Rating.VALIDATION_REGEX},
+        {"friends", Tag.VALIDATION_REGEX},
+    };
+
+    private static final List<Predicate<String>> VALIDATORS = List.of(Name::isValidName, Phone::isValidPhone,
+            Email::isValidEmail, Address::isValidAddress, JobPosition::isValidJobPosition, Status::isValidStatus,
+            Rating::isValidRating, Tag::isValidTagName);
+
+    // Keeps the results alive, so that the validation is not optimised away
+    private static int validCount;
+
+    public static void main(String[] args) {
+        int recordCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RECORD_COUNT;
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            validateWithRegex(recordCount);
+            validateWithValidators(recordCount);
+        }
+
+        long regexNanos = 0;
+        long validatorNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            validateWithRegex(recordCount);
+            regexNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            validateWithValidators(recordCount);
+            validatorNanos += System.nanoTime() - start;
+        }
+
+        long totalRecords = (long) recordCount * MEASURED_ROUNDS;
+        System.out.printf("String#matches: %6d ns per record%n", regexNanos / totalRecords);
+        System.out.printf("isValid:        %6d ns per record%n", validatorNanos / totalRecords);
+        System.out.println("(" + validCount + " valid fields)");
+    }
+
+    private static void validateWithRegex(int recordCount) {
+        for (int i = 0; i < recordCount; i++) {
+            for (String[] field : RECORD) {
+                if (field[0].matches(field[1])) {
+                    validCount++;
+                }
+            }
+        }
+    }
+
+    private static void validateWithValidators(int recordCount) {
+        for (int i = 0; i < recordCount; i++) {
+            for (int j = 0; j < RECORD.length; j++) {
+                if (VALIDATORS.get(j).test(RECORD[j][0])) {
+                    validCount++;
+                }
+            }
+        }
+    }
+
+}
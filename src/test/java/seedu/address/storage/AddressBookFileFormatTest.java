@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of() {
+        assertEquals(AddressBookFileFormat.JOURNALED,
+                AddressBookFileFormat.of(Paths.get("data", "addressbook.journaled.json")));
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.of(Paths.get("data", "addressbook.bin")));
+        assertEquals(AddressBookFileFormat.SQL, AddressBookFileFormat.of(Paths.get("data", "addressbook.mv.db")));
+        assertEquals(AddressBookFileFormat.MAPPED, AddressBookFileFormat.of(Paths.get("data", "addressbook.rec")));
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.of(Paths.get("data", "addressbook.json")));
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.of(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void createStorage() {
+        Path filePath = Paths.get("addressbook.bin");
+        assertTrue(AddressBookFileFormat.BINARY.createStorage(filePath, true, SaveDurability.NONE)
+                instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFileFormat.SQL.createStorage(filePath, true, SaveDurability.NONE)
+                instanceof SqlAddressBookStorage);
+        assertTrue(AddressBookFileFormat.MAPPED.createStorage(filePath, true, SaveDurability.NONE)
+                instanceof MappedAddressBookStorage);
+        assertTrue(AddressBookFileFormat.JOURNALED.createStorage(filePath, true, SaveDurability.NONE)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookFileFormat.JSON.createStorage(filePath, true, SaveDurability.NONE)
+                instanceof JsonAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_success() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path convertedJsonPath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookFileFormat.convert(jsonPath, binaryPath);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookFileFormat.convert(binaryPath, convertedJsonPath);
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(convertedJsonPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToSql_success() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path sqlPath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookFileFormat.convert(jsonPath, sqlPath);
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(sqlPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFileFormat.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+
+}
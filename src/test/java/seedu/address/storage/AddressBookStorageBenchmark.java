@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to save and load a large address book with each {@link AddressBookFileFormat}.
+ * <p>
+ * This is not a test, and is not run by the test task. Run it with the test classpath, optionally passing the
+ * number of applicants, which defaults to 100000. Each format is saved and loaded a few times to warm up first.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_APPLICANT_COUNT = 100_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String[] JOB_POSITIONS = {"Software Engineer", "Data Analyst", "Product Manager", "Designer"};
+    private static final String[] STATUSES = {"Applied", "Interview", "Offered", "Rejected"};
+    private static final String[] TAGS = {"referral", "intern", "remote", "senior", "graduate"};
+
+    public static void main(String[] args) throws Exception {
+        int applicantCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_APPLICANT_COUNT;
+        AddressBook addressBook = createAddressBook(applicantCount);
+        Path folder = Files.createTempDirectory("benchmark");
+
+        System.out.printf("%d applicants, average of %d rounds%n", applicantCount, MEASURED_ROUNDS);
+        for (AddressBookFileFormat format : AddressBookFileFormat.values()) {
+            Path filePath = folder.resolve("addressbook" + getFileExtension(format));
+            AddressBookStorage storage = format.createStorage(filePath, true, SaveDurability.NONE);
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                storage.saveAddressBook(addressBook);
+                storage.readAddressBook();
+            }
+
+            long saveNanos = 0;
+            long loadNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                // a fresh storage always writes the whole file, even if it keeps a journal
+                format.createStorage(filePath, true, SaveDurability.NONE).saveAddressBook(addressBook);
+                saveNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                storage.readAddressBook();
+                loadNanos += System.nanoTime() - start;
+            }
+            System.out.printf("%-9s save %6d ms, load %6d ms, file %8d KiB%n", format,
+                    saveNanos / MEASURED_ROUNDS / 1_000_000, loadNanos / MEASURED_ROUNDS / 1_000_000,
+                    Files.size(filePath) / 1024);
+        }
+    }
+
+    private static String getFileExtension(AddressBookFileFormat format) {
+        switch (format) {
+        case JOURNALED:
+            return JournaledAddressBookStorage.FILE_EXTENSION;
+        case BINARY:
+            return BinaryAddressBookStorage.FILE_EXTENSION;
+        case SQL:
+            return SqlAddressBookStorage.FILE_EXTENSION;
+        case MAPPED:
+            return MappedAddressBookStorage.FILE_EXTENSION;
+        default:
+            return ".json";
+        }
+    }
+
+    private static AddressBook createAddressBook(int applicantCount) {
+        List<Applicant> applicants = new ArrayList<>(applicantCount);
+        LocalDateTime addedTime = LocalDateTime.now();
+        for (int i = 0; i < applicantCount; i++) {
+            applicants.add(new PersonBuilder()
+                    .withName("Applicant " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("applicant" + i + "@example.com")
+                    .withAddress("Block " + i + ", Clementi Avenue 3")
+                    .withJobPosition(JOB_POSITIONS[i % JOB_POSITIONS.length])
+                    .withStatus(STATUSES[i % STATUSES.length])
+                    .withTags(TAGS[i % TAGS.length], TAGS[(i + 1) % TAGS.length])
+                    .withRating(String.valueOf(i % 5 + 1))
+                    .withAddedTime(addedTime.minusSeconds(i))
+                    .build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(applicants);
+        return addressBook;
+    }
+}
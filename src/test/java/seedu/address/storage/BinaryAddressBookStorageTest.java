@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                storage.readAddressBook(FileUtil.getBackupFilePath(filePath)).get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sharedDictionaryEntriesAndPreciseTime_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Applicant applicant = new PersonBuilder().withStatus("Interview").withTags("Interview")
+                .withAddedTime(LocalDateTime.of(1969, 7, 20, 20, 17, 40, 123_456_789)).build();
+        AddressBook original = new AddressBook();
+        original.addPerson(applicant);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_manyTags_success() throws Exception {
+        // the last tags are near the end of the file, with indexes into the dictionary larger than the bytes left
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withTags("a", "b", "c", "d", "e", "f", "g", "h", "i", "j").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRecoveringFromBackup_backupKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+
+        Files.writeString(filePath, "not binary");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        AddressBook recovered = new AddressBook(storage.readAddressBook(backupFilePath).get());
+        recovered.addPerson(HOON);
+        storage.saveAddressBook(recovered);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(backupFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_negativeCount_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write(BinaryAddressBookStorage.MAGIC);
+        content.write(BinaryAddressBookStorage.FORMAT_VERSION);
+        // a dictionary size with every bit set, which is negative once read as a long
+        for (int i = 0; i < 9; i++) {
+            content.write(0xFF);
+        }
+        content.write(0x01);
+        CRC32 checksum = new CRC32();
+        checksum.update(content.toByteArray());
+        new DataOutputStream(content).writeInt((int) checksum.getValue());
+
+        Files.write(filePath, content.toByteArray());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(null));
+    }
+
+}
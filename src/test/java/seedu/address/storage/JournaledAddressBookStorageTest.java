@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("SomeFile.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesJournaled_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // First save writes a snapshot and an empty journal
+        storage.saveAddressBook(original);
+        assertEquals(1, readLines(journalPath).size());
+        String snapshot = Files.readString(filePath);
+
+        // Later saves append to the journal only
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Applicant offered = new PersonBuilder(BENSON).withStatus("Offered").build();
+        original.setPerson(BENSON, new Applicant(BENSON.getId(), offered.getName(), offered.getPhone(),
+                offered.getEmail(), offered.getJobPosition(), offered.getStatus(), offered.getAddress(),
+                offered.getAddedTime(), offered.getTags(), offered.getRating(), offered.getProfilePicturePath()));
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, readLines(journalPath).size());
+
+        // A fresh storage replays the journal on top of the snapshot
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Saving without changes does not append anything
+        storage.saveAddressBook(original);
+        assertEquals(5, readLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        List<Applicant> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook saved = new AddressBook(original);
+
+        Files.write(journalPath, "{\"op\":\"add\",\"applic".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        assertEquals(saved, new AddressBook(recovered.readAddressBook().get()));
+
+        // The next save replaces the torn journal
+        original.addPerson(IDA);
+        recovered.saveAddressBook(original);
+        assertEquals(1, readLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_appendFailsPartway_nextSaveReadable() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AtomicBoolean isNextWriteFailing = new AtomicBoolean();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath) {
+            @Override
+            void write(FileChannel channel, String content) throws IOException {
+                if (isNextWriteFailing.getAndSet(false)) {
+                    // writes half of the records, as a full disk would
+                    super.write(channel, content.substring(0, content.length() / 2));
+                    throw new IOException("dummy IO exception");
+                }
+                super.write(channel, content);
+            }
+        };
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // The failed append leaves no torn record behind
+        original.addPerson(HOON);
+        isNextWriteFailing.set(true);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+        assertArrayEquals(journal, Files.readAllBytes(journalPath));
+
+        // The next save keeps every change, including those of the failed save
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_uncommittedRecords_ignoresRecords() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook saved = new AddressBook(original);
+
+        // A crash after the first records of a save were appended, but before its commit record
+        String uncommittedRecord = JsonUtil.toCompactJsonString(JsonJournalRecord.remove(0)) + "\n"
+                + JsonUtil.toCompactJsonString(JsonJournalRecord.add(new JsonAdaptedApplicant(IDA))) + "\n";
+        Files.write(journalPath, uncommittedRecord.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        assertEquals(saved, new AddressBook(recovered.readAddressBook().get()));
+
+        // The next save replaces the journal with the uncommitted records
+        original.addPerson(IDA);
+        recovered.saveAddressBook(original);
+        assertEquals(1, readLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_foreignJournal_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] foreignJournal = Files.readAllBytes(journalPath);
+
+        // The snapshot is replaced by another one, without a backup of the snapshot the journal belongs to
+        AddressBook other = getTypicalAddressBook();
+        other.addPerson(IDA);
+        new JournaledAddressBookStorage(testFolder.resolve("Other.json")).saveAddressBook(other);
+        Files.copy(testFolder.resolve("Other.json"), filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(other, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(journalPath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Path rejectedPath = files.filter(file -> file.getFileName().toString().startsWith(
+                    journalPath.getFileName() + JournaledAddressBookStorage.REJECTED_JOURNAL_FILE_SUFFIX))
+                    .findFirst().get();
+            assertArrayEquals(foreignJournal, Files.readAllBytes(rejectedPath));
+        }
+    }
+
+    @Test
+    public void readAddressBook_journalOfBackup_journalMovedToBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Path backupPath = FileUtil.getBackupFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook journaled = new AddressBook(original);
+
+        // A crash after a fresh snapshot replaced the old one, but before the journal was moved to the backup
+        original.addPerson(IDA);
+        Files.copy(filePath, backupPath);
+        storage.saveAddressBook(original, testFolder.resolve("Other.json"));
+        Files.copy(testFolder.resolve("Other.json"), filePath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(journaled, new AddressBook(storage.readAddressBook(backupPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotReplaced_backupKeepsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path backupPath = FileUtil.getBackupFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook journaled = new AddressBook(original);
+
+        List<Applicant> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(journaled, new AddressBook(storage.readAddressBook(backupPath).get()));
+    }
+
+    private static List<String> readLines(Path file) throws Exception {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+}
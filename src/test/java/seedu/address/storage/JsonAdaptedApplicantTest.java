@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.storage.JsonAdaptedApplicant.INVALID_ID_MESSAGE;
 import static seedu.address.storage.JsonAdaptedApplicant.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -9,6 +11,7 @@ import static seedu.address.ui.UiManager.DEFAULT_PROFILE_PIC;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -51,6 +54,37 @@ public class JsonAdaptedApplicantTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_preservesId() throws Exception {
+        JsonAdaptedApplicant person = new JsonAdaptedApplicant(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_generatesId() throws Exception {
+        JsonAdaptedApplicant person = new JsonAdaptedApplicant(null, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_JOB_POSITION, VALID_STATUS, VALID_ADDRESS, VALID_ADDED_TIME, VALID_TAGS,
+                VALID_RATING, VALID_PROFILE_PIC_PATH);
+        assertNotNull(person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedApplicant person = new JsonAdaptedApplicant("not-a-uuid", VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_JOB_POSITION, VALID_STATUS, VALID_ADDRESS, VALID_ADDED_TIME, VALID_TAGS,
+                VALID_RATING, VALID_PROFILE_PIC_PATH);
+        assertThrows(IllegalValueException.class, INVALID_ID_MESSAGE, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_validId_usesId() throws Exception {
+        UUID id = UUID.randomUUID();
+        JsonAdaptedApplicant person = new JsonAdaptedApplicant(id.toString(), VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_JOB_POSITION, VALID_STATUS, VALID_ADDRESS, VALID_ADDED_TIME, VALID_TAGS,
+                VALID_RATING, VALID_PROFILE_PIC_PATH);
+        assertEquals(id, person.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedApplicant person =
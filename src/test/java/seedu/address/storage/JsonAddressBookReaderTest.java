@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path UNKNOWN_FIELDS_FILE = TEST_DATA_FOLDER.resolve("unknownFieldsAddressBook.json");
+    private static final Path TRUNCATED_FILE = TEST_DATA_FOLDER.resolve("truncatedAddressBook.json");
+
+    @Test
+    public void readApplicants_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonSerializableAddressBook.toAddressBook(
+                JsonAddressBookReader.readApplicants(TYPICAL_PERSONS_FILE));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readApplicants_unknownFields_ignored() throws Exception {
+        assertTrue(JsonAddressBookReader.readApplicants(UNKNOWN_FIELDS_FILE).isEmpty());
+    }
+
+    @Test
+    public void readApplicants_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.readApplicants(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readApplicants_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.readApplicants(TRUNCATED_FILE));
+    }
+
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +88,33 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_afterRecoveringFromBackup_backupKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        // the data file is corrupted, and the data is recovered from the backup
+        Files.writeString(filePath, "not json");
+        assertThrows(DataLoadingException.class, jsonAddressBookStorage::readAddressBook);
+        AddressBook recovered = new AddressBook(jsonAddressBookStorage.readAddressBook(backupFilePath).get());
+        assertEquals(original, recovered);
+
+        // the first save does not replace the backup with the corrupted file
+        recovered.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(recovered);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(backupFilePath).get()));
+
+        // later saves keep backups as usual
+        AddressBook saved = new AddressBook(recovered);
+        recovered.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(recovered);
+        assertEquals(saved, new AddressBook(jsonAddressBookStorage.readAddressBook(backupFilePath).get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
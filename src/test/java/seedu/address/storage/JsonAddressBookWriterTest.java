@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAddressBook_prettyPrinted_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookWriter.writeAddressBook(original, filePath, true, SaveDurability.FSYNC_FILE, true);
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+        assertEquals(original, JsonSerializableAddressBook.toAddressBook(
+                JsonAddressBookReader.readApplicants(filePath)));
+    }
+
+    @Test
+    public void writeAddressBook_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookWriter.writeAddressBook(original, filePath, false, SaveDurability.FSYNC_FILE, true);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, JsonSerializableAddressBook.toAddressBook(
+                JsonAddressBookReader.readApplicants(filePath)));
+    }
+
+    @Test
+    public void writeAddressBook_existingFile_replacesContent() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "x".repeat(10000));
+
+        JsonAddressBookWriter.writeAddressBook(new AddressBook(), filePath, false, SaveDurability.FSYNC_FILE, true);
+        assertTrue(JsonAddressBookReader.readApplicants(filePath).isEmpty());
+    }
+
+}
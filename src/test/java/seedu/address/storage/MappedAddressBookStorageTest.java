@@ -0,0 +1,308 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Rating;
+import seedu.address.model.applicant.Status;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    // The offset of the last byte of the big-endian slot count in the header
+    private static final int SLOT_COUNT_LOW_BYTE = 19;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new MappedAddressBookStorage(testFolder.resolve("SomeFile.rec")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("NonExistentFile.rec")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notRecordFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NotRecordFile.rec");
+        Files.write(filePath, "not a record file".getBytes());
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_notRecordFile_replacesFile() throws Exception {
+        Path filePath = testFolder.resolve("NotRecordFile.rec");
+        Files.write(filePath, "not a record file".getBytes());
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertSameApplicantsInOrder(getTypicalAddressBook(), readBack(filePath));
+        assertEquals(1, countSetAsideFiles(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedHeader_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // a slot count of zero would otherwise read as an empty address book
+        corrupt(filePath, SLOT_COUNT_LOW_BYTE, 0);
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSlot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        corrupt(filePath, MappedAddressBookStorage.HEADER_SIZE + MappedAddressBookStorage.SLOT_SIZE + 50, 1);
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_unreadableFile_setAsideAndBackupKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        Path backupPath = FileUtil.getBackupFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook edited = new AddressBook(storage.readAddressBook().get());
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        storage.saveAddressBook(edited);
+
+        corrupt(filePath, SLOT_COUNT_LOW_BYTE, 0);
+        MappedAddressBookStorage reopened = new MappedAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, reopened::readAddressBook);
+        AddressBook backup = new AddressBook(reopened.readAddressBook(backupPath).get());
+        assertSameApplicantsInOrder(original, backup);
+
+        // the next save neither writes to the unreadable file nor replaces its backup
+        backup.addPerson(IDA);
+        reopened.saveAddressBook(backup);
+        assertSameApplicantsInOrder(backup, readBack(filePath));
+        assertSameApplicantsInOrder(original, reopened.readAddressBook(backupPath).get());
+        assertEquals(1, countSetAsideFiles(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_firstSaveAfterOpen_backsUpFiles() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        Path backupPath = FileUtil.getBackupFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.compactHeap();
+
+        assertSameApplicantsInOrder(addressBook, readBack(filePath));
+        assertSameApplicantsInOrder(original, storage.readAddressBook(backupPath).get());
+    }
+
+    @Test
+    public void readAddressBook_saveFailedAfterRedoLog_replaysRedoLog() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath) {
+            @Override
+            void writeRedoLog(ByteBuffer header, Map<Integer, ByteBuffer> slots) throws IOException {
+                // a crash right after the redo log is on disk, before any slot is written in place
+                super.writeRedoLog(header, slots);
+                throw new IOException("dummy IO exception");
+            }
+        };
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertTrue(Files.size(MappedAddressBookStorage.getRedoLogFilePath(filePath)) > 0);
+
+        assertSameApplicantsInOrder(addressBook, readBack(filePath));
+        assertEquals(0, Files.size(MappedAddressBookStorage.getRedoLogFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_tornRedoLog_ignoresRedoLog() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(MappedAddressBookStorage.getRedoLogFilePath(filePath),
+                new byte[MappedAddressBookStorage.HEADER_SIZE + MappedAddressBookStorage.SLOT_SIZE]);
+
+        assertSameApplicantsInOrder(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, readBack(filePath));
+
+        // Add, edit and remove applicants, and write only their slots
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Meyer").build());
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, readBack(filePath));
+
+        // Reorder the applicants, and reuse the freed slot
+        original.addPerson(IDA);
+        original.sortPersons(PREFIX_NAME, false);
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_writesChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertSameApplicantsInOrder(addressBook, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_statusAndRatingChanges_writtenInPlace() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, SaveDurability.NONE);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        Path heapFilePath = MappedAddressBookStorage.getHeapFilePath(filePath, 1);
+        long heapSize = Files.size(heapFilePath);
+
+        // ratings are stored in the slot itself
+        model.setRating(model.getAddressBook().getPersonList().get(0), new Rating("5"));
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(heapSize, Files.size(heapFilePath));
+
+        // a new status is appended to the heap once, and shared by later changes
+        model.setStatus(model.getAddressBook().getPersonList().get(0), new Status("Offer Extended"));
+        model.setStatus(model.getAddressBook().getPersonList().get(1), new Status("Offer Extended"));
+        storage.saveAddressBook(model.getAddressBook());
+        model.setStatus(model.getAddressBook().getPersonList().get(2), new Status("Offer Extended"));
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(heapSize + "Offer Extended".length(), Files.size(heapFilePath));
+
+        assertSameApplicantsInOrder(model.getAddressBook(), readBack(filePath));
+    }
+
+    @Test
+    public void compactHeap_afterManyEdits_shrinksHeap() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, SaveDurability.NONE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path heapFilePath = MappedAddressBookStorage.getHeapFilePath(filePath, 1);
+        long heapSize = Files.size(heapFilePath);
+
+        for (int i = 0; i < 10; i++) {
+            addressBook.setPerson(addressBook.getPersonList().get(0),
+                    new PersonBuilder(addressBook.getPersonList().get(0)).withAddress("Street " + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+        assertTrue(Files.size(heapFilePath) > heapSize);
+
+        storage.compactHeap();
+        assertTrue(Files.size(heapFilePath) <= heapSize);
+        assertSameApplicantsInOrder(addressBook, readBack(filePath));
+
+        // the compacted heap is appended to as before
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertSameApplicantsInOrder(addressBook, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.rec");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+        storage.saveAddressBook(original, otherFilePath);
+        assertSameApplicantsInOrder(original, storage.readAddressBook(otherFilePath).get());
+        assertSameApplicantsInOrder(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        // the heap of the replaced file is deleted
+        assertFalse(Files.exists(MappedAddressBookStorage.getHeapFilePath(otherFilePath, 1)));
+        assertTrue(Files.exists(MappedAddressBookStorage.getHeapFilePath(otherFilePath, 2)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new MappedAddressBookStorage(testFolder.resolve("SomeFile.rec")).saveAddressBook(null));
+    }
+
+    /**
+     * Overwrites the byte at {@code offset} in {@code file} with {@code value}.
+     */
+    private static void corrupt(Path file, int offset, int value) throws Exception {
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[offset] = (byte) value;
+        Files.write(file, bytes);
+    }
+
+    private long countSetAsideFiles(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().matches(
+                    filePath.getFileName() + MappedAddressBookStorage.UNREADABLE_FILE_SUFFIX + "\\d+")).count();
+        }
+    }
+
+    private static ReadOnlyAddressBook readBack(Path filePath) throws Exception {
+        return new MappedAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    private static void assertSameApplicantsInOrder(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getId(), actual.getPersonList().get(i).getId());
+        }
+    }
+
+}
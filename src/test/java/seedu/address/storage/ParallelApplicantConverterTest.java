@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.ParallelApplicantConverter.CHUNK_SIZE;
+import static seedu.address.storage.ParallelApplicantConverter.MESSAGE_INVALID_APPLICANT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.model.applicant.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelApplicantConverterTest {
+
+    private static final int APPLICANT_COUNT = CHUNK_SIZE * 3 + 7;
+
+    @Test
+    public void convertAll_severalChunks_convertedInOrder() throws Exception {
+        List<Applicant> expected = createApplicants(APPLICANT_COUNT);
+        List<JsonAdaptedApplicant> jsonApplicants = new ArrayList<>();
+        for (Applicant applicant : expected) {
+            jsonApplicants.add(new JsonAdaptedApplicant(applicant));
+        }
+
+        List<Applicant> converted = ParallelApplicantConverter.convertAll(jsonApplicants);
+        assertEquals(expected, converted);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), converted.get(i).getId());
+        }
+    }
+
+    @Test
+    public void convertAll_noApplicants_emptyList() throws Exception {
+        assertEquals(new ArrayList<>(), ParallelApplicantConverter.convertAll(new ArrayList<>()));
+    }
+
+    @Test
+    public void convertAll_invalidApplicants_firstInvalidApplicantNamed() {
+        List<JsonAdaptedApplicant> jsonApplicants = new ArrayList<>();
+        for (Applicant applicant : createApplicants(APPLICANT_COUNT)) {
+            jsonApplicants.add(new JsonAdaptedApplicant(applicant));
+        }
+        // invalid applicants in the last, partial chunk and in the second chunk
+        jsonApplicants.set(APPLICANT_COUNT - 1, withInvalidPhone(APPLICANT_COUNT - 1));
+        jsonApplicants.set(CHUNK_SIZE + 3, withInvalidPhone(CHUNK_SIZE + 3));
+
+        String expectedMessage = String.format(MESSAGE_INVALID_APPLICANT, CHUNK_SIZE + 4, Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelApplicantConverter.convertAll(jsonApplicants));
+    }
+
+    private static JsonAdaptedApplicant withInvalidPhone(int index) {
+        return new JsonAdaptedApplicant("Applicant " + index, "+65", "applicant" + index + "@example.com",
+                "Designer", "Applied", "Clementi", LocalDateTime.now(), new ArrayList<>(), "-1",
+                "/images/default_profile_pic.png");
+    }
+
+    private static List<Applicant> createApplicants(int count) {
+        List<Applicant> applicants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            applicants.add(new PersonBuilder().withName("Applicant " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("applicant" + i + "@example.com").withTags("tag" + i % 3).build());
+        }
+        return applicants;
+    }
+
+}
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new SqlAddressBookStorage(testFolder.resolve("SomeFile.mv.db")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("NonExistentFile.mv.db")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        // Add, edit and remove applicants, and save only the changed rows
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withStatus("Offered").build());
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+
+        // Reorder the applicants
+        original.addPerson(IDA);
+        original.sortPersons(PREFIX_NAME, false);
+        storage.saveAddressBook(original);
+        assertSameApplicantsInOrder(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_savesChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.mv.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertSameApplicantsInOrder(addressBook, new SqlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_eachDurability_success() throws Exception {
+        for (SaveDurability durability : SaveDurability.values()) {
+            Path filePath = testFolder.resolve(durability + ".mv.db");
+            SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath, durability);
+            AddressBook original = getTypicalAddressBook();
+
+            storage.saveAddressBook(original);
+            original.addPerson(HOON);
+            storage.saveAddressBook(original);
+            assertSameApplicantsInOrder(original, new SqlAddressBookStorage(filePath).readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.mv.db");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.mv.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+        assertSameApplicantsInOrder(original, storage.readAddressBook(otherFilePath).get());
+        assertSameApplicantsInOrder(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new SqlAddressBookStorage(testFolder.resolve("SomeFile.mv.db")).saveAddressBook(null));
+    }
+
+    private static void assertSameApplicantsInOrder(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getId(), actual.getPersonList().get(i).getId());
+        }
+    }
+
+}
@@ -1,10 +1,25 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +29,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.applicant.Applicant;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +77,140 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedAddressBook_skipsWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        // same version -> not written again
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // different file -> written
+        Path otherFilePath = getTempFilePath("other");
+        storageManager.saveAddressBook(addressBook, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+
+        // modified -> written
+        addressBook.markModified();
+        storageManager.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_asynchronousBurst_writesLatestSnapshotOnce() throws Exception {
+        List<ReadOnlyAddressBook> writtenAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writtenAddressBooks.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    // holds the writer thread in the first write until the test releases it
+                    firstWriteReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        asyncStorageManager.saveAddressBook(addressBook);
+        assertTrue(firstWriteStarted.await(10, TimeUnit.SECONDS));
+
+        // every save made while the writer is busy waits for it, and only the latest snapshot is written
+        addressBook.addPerson(BENSON);
+        for (int i = 0; i < 10; i++) {
+            addressBook.markModified();
+            asyncStorageManager.saveAddressBook(addressBook);
+        }
+        long savedVersion = addressBook.getVersion();
+        List<Applicant> savedApplicants = new ArrayList<>(addressBook.getPersonList());
+        // changes after the last save are not part of its snapshot
+        addressBook.addPerson(CARL);
+        firstWriteReleased.countDown();
+        asyncStorageManager.flushAddressBook();
+
+        assertEquals(2, writtenAddressBooks.size());
+        ReadOnlyAddressBook lastWritten = writtenAddressBooks.get(1);
+        assertEquals(savedVersion, lastWritten.getVersion());
+        assertEquals(savedApplicants, lastWritten.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_profilePictureChangedAfterSave_writesSnapshotPath() throws Exception {
+        Path filePath = getTempFilePath("ab.bin");
+        StorageManager asyncStorageManager = new StorageManager(new BinaryAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        Applicant applicant = new PersonBuilder(ALICE).build();
+        String savedProfilePicturePath = applicant.getProfilePicturePath();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(applicant);
+
+        asyncStorageManager.saveAddressBook(addressBook);
+        // profile picture paths are changed in place, after the snapshot was taken
+        applicant.setProfilePicturePath("./data/profile_photos/alice.png");
+        asyncStorageManager.flushAddressBook();
+
+        ReadOnlyAddressBook written = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(savedProfilePicturePath, written.getPersonList().get(0).getProfilePicturePath());
+    }
+
+    @Test
+    public void saveAddressBook_asynchronousFailure_reportedToHandlerAndRetried() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> reportedFailures = new ArrayList<>();
+        asyncStorageManager.setSaveFailureHandler(reportedFailures::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(addressBook);
+        assertThrows(IOException.class, failure.getMessage(), asyncStorageManager::flushAddressBook);
+        assertEquals(List.of(failure), reportedFailures);
+
+        // the failed version is saved again
+        asyncStorageManager.saveAddressBook(addressBook);
+        assertThrows(IOException.class, failure.getMessage(), asyncStorageManager::flushAddressBook);
+        assertEquals(List.of(failure, failure), reportedFailures);
+    }
+
+    @Test
+    public void saveAddressBook_asynchronousRuntimeException_reportedToHandlerAndThrownByFlush() throws Exception {
+        RuntimeException failure = new IllegalStateException("dummy runtime exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw failure;
+            }
+        };
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> reportedFailures = new ArrayList<>();
+        asyncStorageManager.setSaveFailureHandler(reportedFailures::add);
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        try {
+            asyncStorageManager.flushAddressBook();
+            fail();
+        } catch (IOException e) {
+            assertSame(failure, e.getCause());
+            assertEquals(List.of(e), reportedFailures);
+        }
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());